@@ -18,6 +18,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path importPath;
+    private Path exportPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,28 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to replace the address book data with at startup, or null if there is none.
+     */
+    public Path getImportPath() {
+        return importPath;
+    }
+
+    public void setImportPath(Path importPath) {
+        this.importPath = importPath;
+    }
+
+    /**
+     * Returns the file to write a copy of the address book data to at startup, or null if there is none.
+     */
+    public Path getExportPath() {
+        return exportPath;
+    }
+
+    public void setExportPath(Path exportPath) {
+        this.exportPath = exportPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,10 +64,23 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setImportPath(parseDataPath(namedParameters.get("import"), "import"));
+        appParameters.setExportPath(parseDataPath(namedParameters.get("export"), "export"));
 
         return appParameters;
     }
 
+    private static Path parseDataPath(String pathParameter, String parameterName) {
+        if (pathParameter == null) {
+            return null;
+        }
+        if (!FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid " + parameterName + " path " + pathParameter + ". Skipping " + parameterName + ".");
+            return null;
+        }
+        return Paths.get(pathParameter);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -55,16 +92,22 @@ public class AppParameters {
             return false;
         }
 
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(importPath, otherAppParameters.importPath)
+                && Objects.equals(exportPath, otherAppParameters.exportPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, importPath, exportPath);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("configPath", configPath).toString();
+        return new ToStringBuilder(this)
+                .add("configPath", configPath)
+                .add("importPath", importPath)
+                .add("exportPath", exportPath)
+                .toString();
     }
 }
@@ -2,19 +2,29 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,6 +33,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -38,6 +50,12 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 2, false);
 
+    static final String MESSAGE_BACKUP_USED = "The data file %1$s could not be read, so INcontact started with its "
+            + "backup %2$s instead. Changes made after that backup may be missing. Those recorded in the journal of "
+            + "the data file are moved to a file ending in .unapplied when INcontact next saves.";
+    static final String MESSAGE_NO_BACKUP_USED = "The data file %1$s could not be read, and neither could any of its "
+            + "backups, so INcontact started with no contacts.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,35 +64,81 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private final StartupTimer startupTimer = new StartupTimer();
+    private ExecutorService startupExecutor;
+    private CompletableFuture<Void> dateParserWarmUp;
+    private CompletableFuture<Model> modelLoad;
+    private volatile String loadingWarning;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing INcontact ]===========================");
         super.init();
 
+        // The date parser takes a while to load its model, and nothing else needs it to be loaded first
+        AtomicInteger startupThreadCount = new AtomicInteger();
+        startupExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + startupThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dateParserWarmUp = CompletableFuture.runAsync(() -> {
+            long phaseStart = System.nanoTime();
+            DateParserUtil.warmUp();
+            startupTimer.record("Date parser warm-up", phaseStart);
+        }, startupExecutor);
+
         AppParameters appParameters = AppParameters.parse(getParameters());
+        long phaseStart = System.nanoTime();
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        startupTimer.record("Config load", phaseStart);
 
+        phaseStart = System.nanoTime();
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        startupTimer.record("Preferences load", phaseStart);
 
-        model = initModelManager(storage, userPrefs);
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(
+                createAddressBookStorage(userPrefs.getAddressBookFilePath(), config.getBackupGenerations()));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveDelayMillis());
 
-        logic = new LogicManager(model, storage);
+        // The data is loaded and indexed while the window is shown, and given to the UI once it is ready
+        modelLoad = CompletableFuture.supplyAsync(() -> loadModel(appParameters, userPrefs), startupExecutor);
+        startupExecutor.shutdown();
 
-        ui = new UiManager(logic);
+        ui = new UiManager(userPrefs.getGuiSettings());
+    }
+
+    /**
+     * Returns a {@code Model} with the data from {@code storage}'s address book, after importing or exporting the
+     * data if {@code appParameters} ask for it. This is run in the background while the window is shown.
+     */
+    private Model loadModel(AppParameters appParameters, ReadOnlyUserPrefs userPrefs) {
+        Model loadedModel = initModelManager(storage, userPrefs);
+        long phaseStart = System.nanoTime();
+        if (appParameters.getImportPath() != null) {
+            importAddressBook(loadedModel, appParameters.getImportPath());
+        }
+        if (appParameters.getExportPath() != null) {
+            exportAddressBook(loadedModel, appParameters.getExportPath());
+        }
+        if (appParameters.getImportPath() != null || appParameters.getExportPath() != null) {
+            startupTimer.record("Import and export", phaseStart);
+        }
+        return loadedModel;
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If errors occur when reading {@code storage}'s address book, the most recent backup that can be read is used
+     * instead, or an empty address book if there is none, and the user is warned once the data is shown.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        long phaseStart = System.nanoTime();
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -85,12 +149,82 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty INcontact.");
-            initialData = new AddressBook();
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded.");
+            initialData = readLatestBackup(storage).orElseGet(() -> {
+                logger.warning("Will be starting with an empty INcontact.");
+                loadingWarning = String.format(MESSAGE_NO_BACKUP_USED, storage.getAddressBookFilePath());
+                return new AddressBook();
+            });
+        }
+
+        startupTimer.record("Address book read", phaseStart);
+
+        phaseStart = System.nanoTime();
+        Model modelManager = new ModelManager(initialData, userPrefs, config.getParallelThreshold());
+        startupTimer.record("Model construction and indexing", phaseStart);
+        return modelManager;
+    }
+
+    /**
+     * Returns a storage for the address book file at {@code filePath}, in the binary snapshot format if the file
+     * has the {@link BinaryAddressBookStorage#FILE_EXTENSION binary extension} and in JSON otherwise.
+     */
+    private static AddressBookStorage createAddressBookStorage(Path filePath, int backupGenerations) {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return new BinaryAddressBookStorage(filePath, backupGenerations);
+        }
+        return new JsonAddressBookStorage(filePath, backupGenerations);
+    }
+
+    /**
+     * Replaces the address book data of {@code model} with the data in {@code importPath} and saves it to the data
+     * file.
+     */
+    private void importAddressBook(Model model, Path importPath) {
+        try {
+            Optional<ReadOnlyAddressBook> imported = createAddressBookStorage(importPath, 0).readAddressBook();
+            if (imported.isEmpty()) {
+                logger.warning("Import file " + importPath + " does not exist. Skipping import.");
+                return;
+            }
+            model.setAddressBook(imported.get());
+            storage.saveAddressBook(model.getAddressBook());
+            logger.info("Imported address book data from " + importPath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not import address book data from " + importPath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a copy of the address book data of {@code model} to {@code exportPath}.
+     */
+    private void exportAddressBook(Model model, Path exportPath) {
+        try {
+            createAddressBookStorage(exportPath, 0).saveAddressBook(model.getAddressBook());
+            logger.info("Exported address book data to " + exportPath);
+        } catch (IOException e) {
+            logger.warning("Could not export address book data to " + exportPath + ": " + e.getMessage());
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Returns the most recent backup of {@code storage}'s address book that can be read, if any.
+     */
+    private Optional<ReadOnlyAddressBook> readLatestBackup(Storage storage) {
+        for (int generation = 1; generation <= config.getBackupGenerations(); generation++) {
+            Path backupPath = FileUtil.backupPathOf(storage.getAddressBookFilePath(), generation);
+            try {
+                Optional<ReadOnlyAddressBook> backup = storage.readAddressBook(backupPath);
+                if (backup.isPresent()) {
+                    logger.warning("Starting with the backup at " + backupPath + " instead.");
+                    loadingWarning = String.format(MESSAGE_BACKUP_USED, storage.getAddressBookFilePath(), backupPath);
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup at " + backupPath + " could not be loaded either.");
+            }
+        }
+        return Optional.empty();
     }
 
     private void initLogging(Config config) {
@@ -171,17 +305,95 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting INcontact " + MainApp.VERSION);
+        long phaseStart = System.nanoTime();
         ui.start(primaryStage);
+        startupTimer.record("Window shown", phaseStart);
+
+        modelLoad.whenComplete((loadedModel, error) -> Platform.runLater(() -> publishModel(loadedModel, error)));
+    }
+
+    /**
+     * Gives {@code loadedModel} to the UI, or shows {@code error} if the model could not be loaded.
+     * This is run on the JavaFX application thread once the model has been loaded.
+     */
+    private void publishModel(Model loadedModel, Throwable error) {
+        if (error != null) {
+            ui.showLoadingError(error);
+            return;
+        }
+
+        long phaseStart = System.nanoTime();
+        model = loadedModel;
+        logic = new LogicManager(model, storage);
+        ui.showLoadedData(logic);
+        startupTimer.record("Data shown", phaseStart);
+        if (loadingWarning != null) {
+            ui.showLoadingWarning(loadingWarning);
+        }
+
+        dateParserWarmUp.whenComplete((result, warmUpError) -> {
+            if (warmUpError != null) {
+                logger.warning("Date parser could not be warmed up: " + StringUtil.getDetails(warmUpError));
+            }
+            logger.info(startupTimer.getBreakdown());
+        });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping INcontact ] =============================");
+        if (model == null) {
+            // The data was never shown, so there is nothing to save
+            logger.info("Stopped before the data was loaded.");
+            startupExecutor.shutdownNow();
+            closeStorage();
+            return;
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        closeStorage();
+    }
+
+    private void closeStorage() {
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to write pending data " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Records how long each phase of the startup takes, so that a breakdown can be logged once the app has started.
+     * Phases may be run on different threads at the same time.
+     */
+    private static class StartupTimer {
+        private final long startNanos = System.nanoTime();
+        private final List<String> phases = new ArrayList<>();
+
+        /**
+         * Records that {@code phase}, which started at {@code phaseStartNanos}, has just ended.
+         */
+        synchronized void record(String phase, long phaseStartNanos) {
+            long endNanos = System.nanoTime();
+            phases.add(String.format("%-32s %6d ms, from %6d ms to %6d ms on %s", phase,
+                    toMillis(endNanos - phaseStartNanos), toMillis(phaseStartNanos - startNanos),
+                    toMillis(endNanos - startNanos), Thread.currentThread().getName()));
+        }
+
+        /**
+         * Returns the phases recorded so far, in the order they ended.
+         */
+        synchronized String getBreakdown() {
+            return "Startup phases:\n    " + String.join("\n    ", phases);
+        }
+
+        private static long toMillis(long nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
     }
 }
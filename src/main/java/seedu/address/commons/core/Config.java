@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDelayMillis = 500;
+    private int backupGenerations = 2;
+    private int parallelThreshold = 10000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,41 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long, in milliseconds, address book changes may wait before being written to disk.
+     * Changes made within this window are written together. A value of 0 or less saves synchronously.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Returns how many earlier versions of the address book data file are kept as backups next to it.
+     */
+    public int getBackupGenerations() {
+        return backupGenerations;
+    }
+
+    public void setBackupGenerations(int backupGenerations) {
+        this.backupGenerations = backupGenerations;
+    }
+
+    /**
+     * Returns how many persons the address book must have for them to be sorted and searched on all processor cores.
+     * A value of 0 or less always uses a single core.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,12 +84,15 @@ public class Config {
         }
 
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveDelayMillis == otherConfig.saveDelayMillis
+                && backupGenerations == otherConfig.backupGenerations
+                && parallelThreshold == otherConfig.parallelThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDelayMillis, backupGenerations, parallelThreshold);
     }
 
     @Override
@@ -59,6 +100,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveDelayMillis", saveDelayMillis)
+                .add("backupGenerations", backupGenerations)
+                .add("parallelThreshold", parallelThreshold)
                 .toString();
     }
 
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,9 +86,117 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as described in {@link #writeAtomically(Path, int, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, 0, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, so that the file holds either
+     * its old or its new contents even if the app is stopped part way.
+     * The new contents are written to a temporary file in the same directory, forced to the disk and then moved
+     * over {@code file}. Before that, the previous contents are kept as up to {@code generationsToKeep} backups,
+     * the most recent one at {@link #backupPathOf(Path, int) backupPathOf(file, 1)}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @throws IOException if the file cannot be written. {@code file} is left unchanged in that case.
+     */
+    public static void writeAtomically(Path file, int generationsToKeep, ContentWriter contentWriter)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            copyPermissions(file, tempFile);
+            if (generationsToKeep > 0 && isFileExists(file)) {
+                rotateBackups(file, generationsToKeep);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system
+     * supports them. Temporary files are only readable by their owner, so without this, replacing a file with one
+     * would change who can read it.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (!isFileExists(source)
+                || !Files.getFileStore(target).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} that is {@code generation} saves old.
+     */
+    public static Path backupPathOf(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Shifts every backup of {@code file} one generation back, dropping the oldest, and makes the current
+     * contents of {@code file} the first generation. {@code file} itself stays in place throughout.
+     */
+    private static void rotateBackups(Path file, int generationsToKeep) throws IOException {
+        Files.deleteIfExists(backupPathOf(file, generationsToKeep));
+        for (int generation = generationsToKeep - 1; generation >= 1; generation--) {
+            Path backup = backupPathOf(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, backupPathOf(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path firstBackup = backupPathOf(file, 1);
+        try {
+            // A hard link keeps the current contents without copying them
+            Files.createLink(firstBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, firstBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of a moved file to the disk. Not every platform can open a directory, so this
+     * is only done where it is supported.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move itself has succeeded; it is only not yet guaranteed to be on the disk
+        }
+    }
+
+    /**
+     * Represents a function that writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}. The stream is flushed and closed by the caller.
+         */
+        void write(OutputStream out) throws IOException;
     }
 
 }
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collection;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +39,141 @@ public class StringUtil {
         return Arrays.stream(wordsInPreppedSentence).anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * single-character insertions, deletions and substitutions that turn one into the other.
+     *   Case-sensitive.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alise") == 1
+     *       editDistance("alice", "alic") == 1
+     *       editDistance("alice", "Alice") == 1 //case-sensitive
+     *       </pre>
+     *
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // distances from the prefixes of first to the previous and the current prefix of second
+        int[] previous = new int[first.length() + 1];
+        int[] current = new int[first.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= second.length(); j++) {
+            current[0] = j;
+            for (int i = 1; i <= first.length(); i++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[i] = Math.min(Math.min(current[i - 1], previous[i]) + 1,
+                        previous[i - 1] + substitutionCost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[first.length()];
+    }
+
+    /**
+     * Returns {@code text} in lower case, as the methods here that ignore case compare it: every character is
+     * uppercased and then lowercased, as {@link String#regionMatches(boolean, int, String, int, int)} does when it
+     * ignores case. Unlike {@link String#toLowerCase()}, the result does not depend on the default locale.
+     *   <br>examples:<pre>
+     *       foldCase("ABc Def") == "abc def"
+     *       foldCase("Ida") == "ida" //even in a Turkish locale
+     *       </pre>
+     *
+     * @param text cannot be null
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldCase(text.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code lowerCaseKeyword} as a substring, ignoring case.
+     *   {@code lowerCaseKeyword} must already be in lower case, as given by {@link #foldCase(String)}. Unlike
+     *   lowercasing {@code text} first, no new strings are created, so this can be called for every person on every
+     *   search.
+     *   <br>examples:<pre>
+     *       containsIgnoreCase("ABc def", "bc d") == true
+     *       containsIgnoreCase("ABc def", "") == true
+     *       containsIgnoreCase("ABc def", "abd") == false
+     *       </pre>
+     *
+     * @param text cannot be null
+     * @param lowerCaseKeyword cannot be null
+     */
+    public static boolean containsIgnoreCase(String text, String lowerCaseKeyword) {
+        return indexOfIgnoreCase(text, lowerCaseKeyword, 0) >= 0;
+    }
+
+    /**
+     * Returns true if {@code text} contains any of {@code lowerCaseKeywords} as a substring, ignoring case.
+     *   The keywords must already be in lower case, as given by {@link #foldCase(String)}.
+     *   <br>examples:<pre>
+     *       containsAnyIgnoreCase("ABc def", List.of("xyz", "de")) == true
+     *       containsAnyIgnoreCase("ABc def", List.of()) == false
+     *       </pre>
+     *
+     * @param text cannot be null
+     * @param lowerCaseKeywords cannot be null
+     */
+    public static boolean containsAnyIgnoreCase(String text, Collection<String> lowerCaseKeywords) {
+        requireNonNull(lowerCaseKeywords);
+
+        for (String lowerCaseKeyword : lowerCaseKeywords) {
+            if (containsIgnoreCase(text, lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code lowerCaseKeyword} in {@code text} at or after
+     * {@code fromIndex}, ignoring case, or -1 if there is none.
+     *   {@code lowerCaseKeyword} must already be in lower case, as given by {@link #foldCase(String)}.
+     *   No new strings are created.
+     *   <br>examples:<pre>
+     *       indexOfIgnoreCase("ABc abC", "abc", 0) == 0
+     *       indexOfIgnoreCase("ABc abC", "abc", 1) == 4
+     *       </pre>
+     *
+     * @param text cannot be null
+     * @param lowerCaseKeyword cannot be null
+     */
+    public static int indexOfIgnoreCase(String text, String lowerCaseKeyword, int fromIndex) {
+        requireNonNull(text);
+        requireNonNull(lowerCaseKeyword);
+
+        int keywordLength = lowerCaseKeyword.length();
+        if (keywordLength == 0) {
+            return fromIndex <= text.length() ? Math.max(fromIndex, 0) : -1;
+        }
+        char firstChar = lowerCaseKeyword.charAt(0);
+        int lastStart = text.length() - keywordLength;
+        for (int start = Math.max(fromIndex, 0); start <= lastStart; start++) {
+            // the cheap check on the first character rules out most starts before the whole region is compared
+            if (foldCase(text.charAt(start)) == firstChar
+                    && text.regionMatches(true, start + 1, lowerCaseKeyword, 1, keywordLength - 1)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
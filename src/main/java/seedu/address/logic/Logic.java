@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -47,6 +48,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of relationships */
     ObservableList<Relationship> getFilteredRelationshipList();
 
+    /**
+     * Returns the relationships that involve the user with the given ID.
+     *
+     * @see seedu.address.model.Model#getRelationshipsOf(String)
+     */
+    List<Relationship> getRelationshipsOf(String userId);
+
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -36,6 +37,11 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Modification count of the address book when it was last saved (or loaded). */
+    private long savedModificationCount;
+    private int savesPerformed;
+    private int savesSkipped;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -43,6 +49,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -51,10 +58,30 @@ public class LogicManager implements Logic {
         String previousCommandText = commandText;
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText, model);
+        long modificationCountBeforeCommand = model.getAddressBookModificationCount();
         commandResult = command.execute(model);
+        assert !command.isReadOnly() || model.getAddressBookModificationCount() == modificationCountBeforeCommand
+                : "Read-only command modified the address book: " + commandText;
 
         CommandHistory.addCommandToHistory(previousCommandText);
 
+        saveAddressBookIfModified(command);
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book unless {@code command} is read-only or nothing has changed since the last save.
+     */
+    private void saveAddressBookIfModified(Command command) throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (command.isReadOnly() || modificationCount == savedModificationCount) {
+            savesSkipped++;
+            logger.fine("Address book unchanged, skipped save (performed: " + savesPerformed
+                    + ", skipped: " + savesSkipped + ")");
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -63,7 +90,23 @@ public class LogicManager implements Logic {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
-        return commandResult;
+        savedModificationCount = modificationCount;
+        savesPerformed++;
+        logger.fine("Saved address book (performed: " + savesPerformed + ", skipped: " + savesSkipped + ")");
+    }
+
+    /**
+     * Returns the number of commands after which the address book was saved.
+     */
+    public int getSavesPerformed() {
+        return savesPerformed;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book had not changed.
+     */
+    public int getSavesSkipped() {
+        return savesSkipped;
     }
 
     @Override
@@ -86,6 +129,11 @@ public class LogicManager implements Logic {
         return model.getFilteredRelationshipList();
     }
 
+    @Override
+    public List<Relationship> getRelationshipsOf(String userId) {
+        return model.getRelationshipsOf(userId);
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         return model.getFilteredEventList();
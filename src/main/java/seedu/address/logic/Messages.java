@@ -17,6 +17,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_BEST_PERSONS_LISTED_OVERVIEW =
+            "%1$d persons found, listing the %2$d best matches!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
 
@@ -32,6 +34,16 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns a message telling how many persons are listed out of the {@code matchCount} persons found.
+     */
+    public static String getPersonsListedMessage(int matchCount, int listedCount) {
+        if (listedCount < matchCount) {
+            return String.format(MESSAGE_BEST_PERSONS_LISTED_OVERVIEW, matchCount, listedCount);
+        }
+        return String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, listedCount);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
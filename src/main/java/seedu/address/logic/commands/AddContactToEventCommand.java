@@ -50,17 +50,18 @@ public class AddContactToEventCommand extends Command {
         if (eventIndex.getZeroBased() >= model.getFilteredEventList().size()) {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
-        // Check that the contact exists in the address book.
-        if (!model.hasPerson(contact)) {
+        // Check that the contact exists in the address book, and use the person stored there.
+        Person person = model.getPersonByName(contact.getName());
+        if (person == null) {
             throw new CommandException(String.format(MESSAGE_CONTACT_NOT_FOUND, contact.getName().fullName));
         }
         Event originalEvent = model.getFilteredEventList().get(eventIndex.getZeroBased());
         // Check if the contact already exists in the event.
-        if (originalEvent.getContacts().stream().anyMatch(p -> p.equals(contact))) {
+        if (originalEvent.hasContact(person)) {
             throw new CommandException(MESSAGE_CONTACT_ALREADY_EXISTS);
         }
         // Add the contact to the event.
-        originalEvent.addContact(contact);
+        originalEvent.addContact(person);
         // Notify the model that the event has been updated (force UI refresh).
         model.updateEvent(originalEvent, originalEvent);
         return new CommandResult(String.format(MESSAGE_ADD_CONTACT_SUCCESS, originalEvent));
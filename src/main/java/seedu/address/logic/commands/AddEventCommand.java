@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -89,18 +90,21 @@ public class AddEventCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
 
-        // Check that all provided contacts exist in the model
+        // Check that all provided contacts exist in the model, and use the persons stored there
+        List<Person> persons = new ArrayList<>();
         for (Person contact : contactsToAdd) {
-            if (!model.hasPerson(contact)) {
+            Person person = model.getPersonByName(contact.getName());
+            if (person == null) {
                 throw new CommandException(String.format(MESSAGE_CONTACT_NOT_FOUND, contact.getName().fullName));
             }
+            persons.add(person);
         }
 
         model.addEvent(toAdd);
 
         // Add each provided contact to the event
-        for (Person contact : contactsToAdd) {
-            toAdd.addContact(contact);
+        for (Person person : persons) {
+            toAdd.addContact(person);
         }
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never modifies the address book data, so it need not be saved afterwards.
+     * Changing which persons, relationships or events are displayed does not count as a modification.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -49,11 +49,12 @@ public class DeleteContactFromEventCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
         Event event = model.getFilteredEventList().get(eventIndex.getZeroBased());
-        // Check if the contact exists in the event.
-        if (event.getContacts().stream().noneMatch(p -> p.equals(contact))) {
+        // Check if the contact exists in the event, and remove the person stored there.
+        Person person = event.getContacts().stream().filter(contact::isSamePerson).findFirst().orElse(null);
+        if (person == null) {
             throw new CommandException(MESSAGE_CONTACT_NOT_FOUND);
         }
-        event.deleteContact(contact);
+        event.deleteContact(person);
 
         model.updateEvent(event, event);
         return new CommandResult(String.format(MESSAGE_DELETE_CONTACT_SUCCESS, event));
@@ -5,11 +5,11 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.RankedPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. In fuzzy mode, names only need a word close to a keyword.
  */
 public class FindNameCommand extends Command {
 
@@ -17,21 +17,26 @@ public class FindNameCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: [-f] KEYWORD [MORE_KEYWORDS]...\n"
+            + "  -f: Fuzzy mode, which also finds names with a word a few typos away from a keyword\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
-    private final NameContainsKeywordsAsSubstringPredicate predicate;
+    private final RankedPredicate predicate;
 
-    public FindNameCommand(NameContainsKeywordsAsSubstringPredicate predicate) {
+    public FindNameCommand(RankedPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        int matchCount = model.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
+        return new CommandResult(Messages.getPersonsListedMessage(matchCount, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
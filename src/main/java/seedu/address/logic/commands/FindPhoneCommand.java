@@ -29,9 +29,13 @@ public class FindPhoneCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        int matchCount = model.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
+        return new CommandResult(Messages.getPersonsListedMessage(matchCount, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
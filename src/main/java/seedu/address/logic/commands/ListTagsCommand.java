@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+
+/**
+ * Lists every tag in use in the address book, with the number of persons having it.
+ * The counts are read from the tag index, without going through the persons.
+ */
+public class ListTagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "listTags";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d tags:\n%2$s";
+
+    public static final String MESSAGE_NO_TAGS = "No persons have tags";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<String, Integer> tagCounts = model.getTagIndex().getTagCounts();
+        if (tagCounts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TAGS);
+        }
+
+        String tagList = tagCounts.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, tagCounts.size(), tagList));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
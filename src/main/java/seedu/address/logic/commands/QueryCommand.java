@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryStatistics;
+
+/**
+ * Finds and lists all persons in address book matching a combination of conditions on their fields, relationships
+ * and events. Keyword matching is case-insensitive.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching a combination of "
+            + "conditions and displays them as a list with index numbers.\n"
+            + "Conditions: n/NAME p/PHONE e/EMAIL a/ADDRESS s/SOCIAL t/TAG r/RELATIONSHIP_ROLE en/EVENT_NAME, "
+            + "each matching a keyword as a case-insensitive substring. "
+            + "Put a keyword containing spaces in double quotes, e.g. a/\"Clementi Ave\".\n"
+            + "Combine conditions with AND, OR, NOT and parentheses. Conditions without an operator between them "
+            + "must all match.\n"
+            + "Parameters: CONDITION [[AND|OR] [NOT] CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " t/friends AND (n/alex OR r/mentor) AND NOT en/reunion";
+
+    public static final String MESSAGE_QUERY_STATISTICS =
+            "Query plan: %1$s\nTested %2$d of %3$d persons in %4$.1f ms (index lookup %5$.1f ms)";
+
+    private static final Logger logger = LogsCenter.getLogger(QueryCommand.class);
+
+    private final PersonQuery query;
+
+    public QueryCommand(PersonQuery query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = new QueryPlan(query, model);
+
+        long start = System.nanoTime();
+        model.updateFilteredPersonList(plan);
+        int matchCount = model.getFilteredPersonList().size();
+        long totalNanos = System.nanoTime() - start;
+
+        int personCount = model.getAddressBook().getPersonList().size();
+        QueryStatistics statistics = new QueryStatistics(query.toString(), personCount,
+                plan.getCandidateCount(personCount), matchCount, plan.getPlanningNanos(), totalNanos);
+        logger.fine("Evaluated query: " + statistics);
+
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchCount) + "\n"
+                + formatStatistics(statistics), statistics);
+    }
+
+    /**
+     * Formats {@code statistics} for display to the user.
+     */
+    public static String formatStatistics(QueryStatistics statistics) {
+        return String.format(MESSAGE_QUERY_STATISTICS, statistics.getPlan(), statistics.getCandidateCount(),
+                statistics.getPersonCount(), statistics.getTotalNanos() / 1e6, statistics.getPlanningNanos() / 1e6);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand otherQueryCommand)) {
+            return false;
+        }
+
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
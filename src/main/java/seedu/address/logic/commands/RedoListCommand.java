@@ -35,6 +35,11 @@ public class RedoListCommand extends Command {
         throw new CommandException(String.format(MESSAGE_SUCCESS, history));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return "RedoListCommand{}";
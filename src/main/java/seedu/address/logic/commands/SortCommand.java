@@ -1,12 +1,11 @@
 package seedu.address.logic.commands;
 
-import java.util.Comparator;
 import java.util.List;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKeyComparator;
 
 /**
  * Sorts the address book by one or more fields.
@@ -37,61 +36,11 @@ public class SortCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        Comparator<Person> comparator = createComparator(fields);
-
-        if (isReverse) {
-            comparator = comparator.reversed();
-        }
-
-        model.updateSortedPersonList(comparator);
+        model.updateSortedPersonList(new PersonSortKeyComparator(fields, isReverse));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
-    /**
-     * Creates a comparator based on the fields provided.
-     *
-     * @param fields The fields to sort by
-     * @return A comparator for sorting
-     */
-    private Comparator<Person> createComparator(List<String> fields) {
-        Comparator<Person> comparator;
-
-        String firstField = fields.get(0).toLowerCase();
-        comparator = switch (firstField) {
-            case "name" -> (p1, p2) -> p1.getName().toString().compareToIgnoreCase(p2.getName().toString());
-            case "phone" -> (p1, p2) -> p1.getPhone().toString().compareToIgnoreCase(p2.getPhone().toString());
-            case "email" -> (p1, p2) -> p1.getEmail().toString().compareToIgnoreCase(p2.getEmail().toString());
-            case "address" -> (p1, p2) -> p1.getAddress().toString().compareToIgnoreCase(p2.getAddress().toString());
-            case "tags" -> (p1, p2) -> p1.getTags().toString().compareToIgnoreCase(p2.getTags().toString());
-            case "socials" -> (p1, p2) -> p1.getSocials().toString().compareToIgnoreCase(p2.getSocials().toString());
-            default -> null;
-        };
-
-        for (int i = 1; i < fields.size(); i++) {
-            String field = fields.get(i).toLowerCase();
-            comparator = switch (field) {
-                case "name" ->
-                        comparator.thenComparing((p1, p2) -> p1.getName().toString()
-                                .compareToIgnoreCase(p2.getName().toString()));
-                case "phone" ->
-                        comparator.thenComparing((p1, p2) -> p1.getPhone().toString()
-                                .compareToIgnoreCase(p2.getPhone().toString()));
-                case "email" ->
-                        comparator.thenComparing((p1, p2) -> p1.getEmail().toString()
-                                .compareToIgnoreCase(p2.getEmail().toString()));
-                case "address" ->
-                        comparator.thenComparing((p1, p2) -> p1.getAddress().toString()
-                                .compareToIgnoreCase(p2.getAddress().toString()));
-                case "tags" -> comparator.thenComparingInt(p -> p.getTags().size());
-                case "socials" -> comparator.thenComparingInt(p -> p.getSocials().size());
-                default -> null;
-            };
-        }
-
-        return comparator;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -33,6 +33,8 @@ import seedu.address.logic.commands.FindSocialCommand;
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListTagsCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RedoListCommand;
 import seedu.address.logic.commands.SortCommand;
@@ -82,7 +84,9 @@ public class AddressBookParser {
             case FindRelationshipCommand.COMMAND_WORD -> new FindRelationshipCommandParser().parse(arguments, model);
             case FindSocialCommand.COMMAND_WORD -> new FindSocialCommandParser().parse(arguments);
             case FindTagCommand.COMMAND_WORD -> new FindTagCommandParser().parse(arguments);
+            case QueryCommand.COMMAND_WORD -> new QueryCommandParser().parse(arguments, model);
             case ListCommand.COMMAND_WORD -> new ListCommand();
+            case ListTagsCommand.COMMAND_WORD -> new ListTagsCommand();
             case ExitCommand.COMMAND_WORD -> new ExitCommand();
             case HelpCommand.COMMAND_WORD -> new HelpCommand();
             case AddRelationshipCommand.COMMAND_WORD -> new AddRelationshipCommandParser().parse(arguments);
@@ -23,4 +23,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_USERID = new Prefix("u/");
     public static final Prefix PREFIX_FORWARD_RELATIONSHIP_NAME = new Prefix("fn/");
     public static final Prefix PREFIX_REVERSE_RELATIONSHIP_NAME = new Prefix("rn/");
+    public static final Prefix PREFIX_RELATIONSHIP_ROLE = new Prefix("r/");
 }
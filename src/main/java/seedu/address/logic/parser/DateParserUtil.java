@@ -56,6 +56,14 @@ public class DateParserUtil {
         );
     }
 
+    /**
+     * Loads the parser model into memory, if it has not been loaded yet, so that the first date parsed is not slow.
+     * The model is loaded when this class is initialised, which calling this method makes sure of.
+     */
+    public static void warmUp() {
+        // Nothing else to do, as the class has been initialised once this is called
+    }
+
     /**
      * Parses {@code date} string into a {@code LocalDateTime} object using natural language date parsing.
      * Examples of valid {@code date}s:
@@ -3,16 +3,20 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindNameCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameWithinEditDistancePredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindNameCommandParser implements Parser<FindNameCommand> {
 
+    private static final String FUZZY_FLAG = "-f";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -26,9 +30,19 @@ public class FindNameCommandParser implements Parser<FindNameCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNameCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+
+        // Check for fuzzy flag
+        if (nameKeywords.get(0).equals(FUZZY_FLAG)) {
+            if (nameKeywords.size() == 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNameCommand.MESSAGE_USAGE));
+            }
+            return new FindNameCommand(
+                    new NameWithinEditDistancePredicate(nameKeywords.subList(1, nameKeywords.size())));
+        }
 
-        return new FindNameCommand(new NameContainsKeywordsAsSubstringPredicate(Arrays.asList(nameKeywords)));
+        return new FindNameCommand(new NameContainsKeywordsAsSubstringPredicate(nameKeywords));
     }
 
 }
@@ -0,0 +1,197 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOCIAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.predicate.AddressContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.EmailContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.EventContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.PhoneContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.RelationshipContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.SocialContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object
+ *
+ * NOT binds tighter than AND, which binds tighter than OR. Conditions with no operator between them are joined
+ * with AND. A keyword containing spaces or parentheses is given in double quotes, e.g. {@code a/"Clementi Ave"}.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_CONDITION = "Unknown query condition: %1$s";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String QUOTE = "\"";
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()\"]+\"[^\"]*\"|[^\\s()]+");
+
+    private List<String> tokens;
+    private int position;
+    private Model model;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        throw invalidFormat();
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public QueryCommand parse(String args, Model model) throws ParseException {
+        this.tokens = tokenize(args);
+        this.position = 0;
+        this.model = model;
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        PersonQuery query = parseOr();
+        if (position != tokens.size()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query);
+    }
+
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(args);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (OR.equals(peek())) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return PersonQuery.or(operands);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (peek() != null && !OR.equals(peek()) && !CLOSE_PARENTHESIS.equals(peek())) {
+            if (AND.equals(peek())) {
+                position++;
+            }
+            operands.add(parseNot());
+        }
+        return PersonQuery.and(operands);
+    }
+
+    private PersonQuery parseNot() throws ParseException {
+        String token = peek();
+        if (token == null || AND.equals(token) || OR.equals(token) || CLOSE_PARENTHESIS.equals(token)) {
+            throw invalidFormat();
+        }
+        position++;
+
+        if (NOT.equals(token)) {
+            return PersonQuery.not(parseNot());
+        }
+        if (OPEN_PARENTHESIS.equals(token)) {
+            PersonQuery query = parseOr();
+            if (!CLOSE_PARENTHESIS.equals(peek())) {
+                throw invalidFormat();
+            }
+            position++;
+            return query;
+        }
+        return parseCondition(token);
+    }
+
+    private PersonQuery parseCondition(String token) throws ParseException {
+        if (hasPrefix(token, PREFIX_NAME)) {
+            return PersonQuery.condition(token, new NameContainsKeywordsAsSubstringPredicate(
+                    List.of(valueOf(token, PREFIX_NAME))), PersonQuery.COST_FIELD);
+        }
+        if (hasPrefix(token, PREFIX_PHONE)) {
+            return PersonQuery.condition(token, new PhoneContainsKeywordsAsSubstringPredicate(
+                    List.of(valueOf(token, PREFIX_PHONE))), PersonQuery.COST_FIELD);
+        }
+        if (hasPrefix(token, PREFIX_EMAIL)) {
+            return PersonQuery.condition(token, new EmailContainsKeywordsAsSubstringPredicate(
+                    List.of(valueOf(token, PREFIX_EMAIL))), PersonQuery.COST_FIELD);
+        }
+        if (hasPrefix(token, PREFIX_ADDRESS)) {
+            return PersonQuery.condition(token, new AddressContainsKeywordsAsSubstringPredicate(
+                    List.of(valueOf(token, PREFIX_ADDRESS))), PersonQuery.COST_FIELD);
+        }
+        if (hasPrefix(token, PREFIX_SOCIAL)) {
+            return PersonQuery.condition(token, new SocialContainsKeywordsAsSubstringPredicate(
+                    List.of(valueOf(token, PREFIX_SOCIAL))), PersonQuery.COST_FIELD);
+        }
+        if (hasPrefix(token, PREFIX_TAG)) {
+            return PersonQuery.condition(token, new TagContainsKeywordsAsSubstringPredicate(
+                    Set.of(ParserUtil.parseTag(valueOf(token, PREFIX_TAG)))), PersonQuery.COST_FIELD);
+        }
+        if (hasPrefix(token, PREFIX_RELATIONSHIP_ROLE)) {
+            return PersonQuery.condition(token, new RelationshipContainsKeywordsAsSubstringPredicate(
+                    List.of(valueOf(token, PREFIX_RELATIONSHIP_ROLE)), model), PersonQuery.COST_LINKED);
+        }
+        if (hasPrefix(token, PREFIX_EVENT_NAME)) {
+            return PersonQuery.condition(token, new EventContainsKeywordsAsSubstringPredicate(
+                    List.of(valueOf(token, PREFIX_EVENT_NAME)), model), PersonQuery.COST_LINKED);
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_CONDITION, token));
+    }
+
+    private static boolean hasPrefix(String token, Prefix prefix) {
+        return token.startsWith(prefix.getPrefix()) && !valueOf(token, prefix).isEmpty();
+    }
+
+    /**
+     * Returns the keyword of a condition {@code token} with the given {@code prefix}, without the quotes around it
+     * if it is quoted.
+     */
+    private static String valueOf(String token, Prefix prefix) {
+        String value = token.substring(prefix.getPrefix().length());
+        if (value.length() >= 2 && value.startsWith(QUOTE) && value.endsWith(QUOTE)) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private String peek() {
+        return position < tokens.size() ? tokens.get(position) : null;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+}
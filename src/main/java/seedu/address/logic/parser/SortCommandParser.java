@@ -8,6 +8,7 @@ import java.util.List;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonSortKeyComparator;
 
 /**
  * Parses input arguments and creates a new SortCommand object.
@@ -53,7 +54,6 @@ public class SortCommandParser implements Parser<SortCommand> {
     }
 
     private boolean isValidField(String field) {
-        List<String> validFields = Arrays.asList("name", "phone", "email", "address", "tags", "socials");
-        return validFields.contains(field.toLowerCase());
+        return PersonSortKeyComparator.FIELDS.contains(field.toLowerCase());
     }
 }
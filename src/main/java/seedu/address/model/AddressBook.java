@@ -3,16 +3,20 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.TagIndex;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.UniqueRelationshipList;
@@ -28,6 +32,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueRelationshipList relationships;
     // Changed events field to use a standard ObservableList instead of UniqueEventList.
     private final ObservableList<Event> events;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +42,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         relationships = new UniqueRelationshipList();
         events = FXCollections.observableArrayList();
+
+        ListChangeListener<Object> modificationCounter = change -> modificationCount++;
+        persons.asUnmodifiableObservableList().addListener(modificationCounter);
+        relationships.asUnmodifiableObservableList().addListener(modificationCounter);
+        events.addListener(modificationCounter);
     }
 
     public AddressBook() {}
@@ -103,6 +113,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
+        replacePersonInEvents(target, editedPerson);
     }
 
     /**
@@ -131,18 +142,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     private void removePersonFromEvents(Person person) {
         for (Event event : events) {
-            event.deleteContact(person);
+            if (event.hasContact(person)) {
+                event.deleteContact(person);
+            }
         }
     }
 
     /**
-     * Sorts the person list using the provided comparator.
-     *
-     * @param comparator The comparator to use for sorting.
+     * Replaces the given person with their edited version in all events that reference them,
+     * so events hold the same {@code Person} objects as the person list.
      */
-    public void sortPersons(Comparator<? super Person> comparator) throws CommandException {
-        requireNonNull(comparator);
-        persons.sortPersons(comparator);
+    private void replacePersonInEvents(Person target, Person editedPerson) {
+        for (Event event : events) {
+            if (event.hasContact(target)) {
+                event.setContact(target, editedPerson);
+            }
+        }
     }
 
     //// Relationship-level operations
@@ -193,10 +208,57 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Person getPersonById(String id) {
         requireNonNull(id);
-        return persons.asUnmodifiableObservableList().stream()
-                .filter(p -> p.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return persons.getById(id);
+    }
+
+    @Override
+    public String getPersonNameById(String id) {
+        Person person = getPersonById(id);
+        return person == null ? null : person.getName().fullName;
+    }
+
+    /**
+     * Returns the person with the given name, or null if not found.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.getByName(name);
+    }
+
+    /**
+     * Returns the persons that may match {@code predicate}, or null if every person may.
+     */
+    public Set<Person> getSearchCandidates(PersonSearchIndex.FieldPredicate predicate) {
+        return persons.getSearchCandidates(predicate);
+    }
+
+    /**
+     * Returns the index of the tags of the persons.
+     */
+    public TagIndex getTagIndex() {
+        return persons.getTagIndex();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the persons that may match it.
+     */
+    public Predicate<Person> narrowBySearchIndex(PersonSearchIndex.FieldPredicate predicate) {
+        return persons.narrowBySearchIndex(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the persons that match it.
+     */
+    public Predicate<Person> narrowBySearchIndex(PersonSearchIndex.FuzzyNamePredicate predicate) {
+        return persons.narrowBySearchIndex(predicate);
+    }
+
+    /**
+     * Returns the relationships that involve the user with the given ID.
+     */
+    public List<Relationship> getRelationshipsOf(String userId) {
+        requireNonNull(userId);
+        return relationships.getRelationshipsOf(userId);
     }
 
     /**
@@ -259,6 +321,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// Util methods
 
+    /**
+     * Returns the number of changes made to the persons, relationships and events lists so far.
+     * Two equal readings mean the data has not changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
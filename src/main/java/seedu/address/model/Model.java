@@ -2,13 +2,19 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.predicate.RankedPredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
 
@@ -19,6 +25,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /** Number of best matches listed by searches that rank the persons they find */
+    int MAX_RANKED_PERSONS = 50;
+
     /** {@code Predicate} that always evaluate to true for events */
     Predicate<Event> PREDICATE_SHOW_ALL_EVENTS = unused -> true;
 
@@ -60,6 +69,12 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns a counter that increases every time the address book data changes.
+     * Callers can compare two readings to tell whether anything changed in between.
+     */
+    long getAddressBookModificationCount();
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -106,7 +121,18 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Updates the sorting order of the filtered person list.
+     * Updates the filter of the filtered person list to the {@code limit} persons that {@code predicate} ranks as
+     * its best matches, and lists them from the best match.
+     * The underlying address book is not reordered.
+     *
+     * @return the number of persons matching {@code predicate}, including those not listed.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    int updateFilteredPersonList(RankedPredicate predicate, int limit);
+
+    /**
+     * Updates the sorting order of the filtered person list, and keeps it for later filters.
+     * The underlying address book is not reordered.
      *
      * @throws NullPointerException if {@code comparator} is null.
      */
@@ -117,6 +143,22 @@ public interface Model {
      */
     Person getPersonById(String id);
 
+    /**
+     * Returns the person with the given name, or null if not found.
+     */
+    Person getPersonByName(Name name);
+
+    /**
+     * Returns the persons that the search index finds may match {@code predicate}, or null if every person may.
+     */
+    Set<Person> getSearchCandidates(PersonSearchIndex.FieldPredicate predicate);
+
+    /**
+     * Returns the index of the tags of the persons in the address book.
+     * The index may be replaced when the address book changes, so it should not be kept across changes.
+     */
+    TagIndex getTagIndex();
+
     /**
      * Returns true if a relationship with the same identity fields exists in the address book.
      */
@@ -151,6 +193,12 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered relationship list */
     ObservableList<Relationship> getFilteredRelationshipList();
 
+    /**
+     * Returns the relationships that involve the user with the given ID, regardless of the relationship filter.
+     * The lookup does not scan the whole relationship list.
+     */
+    List<Relationship> getRelationshipsOf(String userId);
+
     /**
      * Returns true if an event with the same identity as {@code event} exists in the address book.
      */
@@ -5,16 +5,26 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonSortKeyComparator;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.predicate.RankedPredicate;
+import seedu.address.model.predicate.TopMatchesPredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
 
@@ -27,15 +37,28 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedFilteredPersons;
     private final FilteredList<Relationship> filteredRelationships;
     private final FilteredList<Event> filteredEvents;
+    private final int parallelThreshold;
 
+    /** The order of the listed persons outside of ranked searches, or null for the order of the address book. */
     private Comparator<Person> sortComparator;
+    /** The filter of the listed persons during a ranked search, or null outside of one. */
+    private TopMatchesPredicate topMatches;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, 0);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which sorts and searches the persons in
+     * parallel once there are at least {@code parallelThreshold} of them. A threshold of 0 or less never does.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, int parallelThreshold) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
@@ -43,9 +66,11 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedFilteredPersons = new SortedList<>(filteredPersons);
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> handlePersonsChanged());
         filteredRelationships = new FilteredList<>(this.addressBook.getRelationshipList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList()); // Initialize event list
-        sortComparator = (person1, person2) -> 0;
+        this.parallelThreshold = parallelThreshold;
     }
 
     public ModelManager() {
@@ -99,6 +124,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -127,27 +157,94 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order it is displayed
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedFilteredPersons;
     }
 
     @Override
     public ObservableList<Person> getSortedFilteredPersonList() {
-        return filteredPersons;
+        return sortedFilteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        topMatches = null;
+        filteredPersons.setPredicate(narrowBySearchIndex(predicate));
+        sortedFilteredPersons.setComparator(sortComparator);
+    }
+
+    @Override
+    public int updateFilteredPersonList(RankedPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        topMatches = new TopMatchesPredicate(predicate, narrowBySearchIndex(predicate), limit, this, isParallel());
+        refilterTopMatches();
+        sortedFilteredPersons.setComparator(Comparator.comparingInt(predicate::getRelevance).reversed());
+        return topMatches.getMatchCount();
+    }
+
+    /**
+     * Updates the filter and the order of the listed persons after the persons of the address book changed.
+     * This runs after the listed persons have been updated for the change.
+     */
+    private void handlePersonsChanged() {
+        // A filtered list only tests the persons that changed, but a change to one person can change the top matches
+        refilterTopMatches();
+        // The sort keys of edited and deleted persons would otherwise be kept for as long as the order is used
+        if (sortComparator instanceof PersonSortKeyComparator sortKeyComparator) {
+            sortKeyComparator.forgetSortKeys();
+        }
+    }
+
+    /**
+     * Tests every person against the top matches again, if a ranked search is listed.
+     * The filtered list is given a new predicate, as it does not test the persons again for the same one.
+     */
+    private void refilterTopMatches() {
+        if (topMatches != null) {
+            TopMatchesPredicate currentTopMatches = topMatches;
+            filteredPersons.setPredicate(person -> currentTopMatches.test(person));
+        }
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of the address book when it can.
+     */
+    private Predicate<Person> narrowBySearchIndex(Predicate<Person> predicate) {
+        if (predicate instanceof PersonSearchIndex.FieldPredicate fieldPredicate) {
+            return addressBook.narrowBySearchIndex(fieldPredicate);
+        } else if (predicate instanceof PersonSearchIndex.FuzzyNamePredicate fuzzyNamePredicate) {
+            return addressBook.narrowBySearchIndex(fuzzyNamePredicate);
+        }
+        return predicate;
     }
 
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) throws CommandException {
-        this.addressBook.sortPersons(comparator);
+        requireNonNull(comparator);
+        if (comparator instanceof PersonSortKeyComparator sortKeyComparator) {
+            sortKeyComparator.rank(addressBook.getPersonList(), isParallel());
+        }
+        // Only the view is sorted, so the address book and its listeners see no change
+        try {
+            sortedFilteredPersons.setComparator(comparator);
+        } catch (RuntimeException e) {
+            throw new CommandException("An error occurred while sorting the persons list: "
+                    + "Possible error is one of the sorting fields in some person is null. "
+                    + "Please add sufficient value to sort properly.", e);
+        }
+        sortComparator = comparator;
+    }
+
+    /**
+     * Returns true if the persons are many enough to be sorted and searched in parallel.
+     */
+    private boolean isParallel() {
+        return parallelThreshold > 0 && addressBook.getPersonList().size() >= parallelThreshold
+                && Runtime.getRuntime().availableProcessors() > 1;
     }
 
     //=========== Relationship ================================================================================
@@ -157,6 +254,23 @@ public class ModelManager implements Model {
         return addressBook.getPersonById(id);
     }
 
+    @Override
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonByName(name);
+    }
+
+    @Override
+    public Set<Person> getSearchCandidates(PersonSearchIndex.FieldPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getSearchCandidates(predicate);
+    }
+
+    @Override
+    public TagIndex getTagIndex() {
+        return addressBook.getTagIndex();
+    }
+
     @Override
     public boolean hasRelationship(Relationship relationship) {
         requireNonNull(relationship);
@@ -211,6 +325,12 @@ public class ModelManager implements Model {
         return filteredRelationships;
     }
 
+    @Override
+    public List<Relationship> getRelationshipsOf(String userId) {
+        requireNonNull(userId);
+        return addressBook.getRelationshipsOf(userId);
+    }
+
     //=========== Event =============================================================
 
     @Override
@@ -272,7 +392,7 @@ public class ModelManager implements Model {
 
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedFilteredPersons.equals(otherModelManager.sortedFilteredPersons)
                 && filteredRelationships.equals(otherModelManager.filteredRelationships)
                 && filteredEvents.equals(otherModelManager.filteredEvents);
     }
@@ -16,6 +16,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the full name of the person with the given ID, or null if there is no such person.
+     * The name is looked up without going through the persons list.
+     */
+    String getPersonNameById(String id);
+
     /**
      * Returns an unmodifiable view of the relationships list.
      */
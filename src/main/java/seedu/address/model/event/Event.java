@@ -184,6 +184,18 @@ public class Event {
         return new Event(this.id, this.name, newDate, this.location, this.description, this.tags, this.contacts);
     }
 
+    /**
+     * Returns a copy of this event with its own contacts list.
+     * Later changes to the contacts of either event do not affect the other.
+     *
+     * @return a new {@code Event} instance with the same details and contacts.
+     */
+    public Event copy() {
+        UniquePersonList copiedContacts = new UniquePersonList();
+        copiedContacts.setPersons(getContacts());
+        return new Event(this.id, this.name, this.date, this.location, this.description, this.tags, copiedContacts);
+    }
+
     /**
      * Returns an immutable set of tags associated with this event.
      * <p>
@@ -206,6 +218,16 @@ public class Event {
         return contacts.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns true if a person with the same identity as {@code person} is a contact of this event.
+     *
+     * @param person the person to check; must not be null.
+     */
+    public boolean hasContact(Person person) {
+        requireNonNull(person, "Person cannot be null");
+        return contacts.contains(person);
+    }
+
     /**
      * Adds a person to the contacts list.
      *
@@ -226,6 +248,18 @@ public class Event {
         contacts.remove(person);
     }
 
+    /**
+     * Replaces the contact {@code target} with {@code editedPerson}.
+     *
+     * @param target       the contact to replace; must be a contact of this event.
+     * @param editedPerson the person to replace it with; must not be null.
+     */
+    public void setContact(Person target, Person editedPerson) {
+        requireNonNull(target, "Person cannot be null");
+        requireNonNull(editedPerson, "Person cannot be null");
+        contacts.setPerson(target, editedPerson);
+    }
+
     /**
      * Returns a comma-separated string of the full names of all contacts associated with this event.
      * If no contacts exist, returns "None".
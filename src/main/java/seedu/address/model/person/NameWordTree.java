@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree of the words in the names of persons, which finds the words within an edit distance of a keyword
+ * without comparing the keyword against every word.
+ *
+ * Each word is stored under its parent word at its edit distance from it. Edit distance obeys the triangle inequality,
+ * so a word within {@code maxDistance} of a keyword that is at distance {@code d} from a word can only be stored under
+ * that word at a distance from {@code d - maxDistance} to {@code d + maxDistance}, and its other subtrees are skipped.
+ *
+ * Words are stored in lower case. A word stays in the tree after the last person with it is removed, and is skipped
+ * by searches; the tree is rebuilt once such words make up half of it.
+ */
+public class NameWordTree {
+
+    /**
+     * A word in the tree, and the persons having it in their names.
+     */
+    private static class Node {
+        private final String word;
+        private final Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    private final Map<String, Node> nodesByWord = new HashMap<>();
+    private Node root;
+    private int unusedWordCount;
+
+    /**
+     * Adds the words in the name of {@code person} to the tree.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person.getName())) {
+            Node node = nodesByWord.get(word);
+            if (node == null) {
+                node = insert(word);
+            } else if (node.persons.isEmpty()) {
+                unusedWordCount--;
+            }
+            node.persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the words in their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person.getName())) {
+            Node node = nodesByWord.get(word);
+            if (node != null && node.persons.remove(person) && node.persons.isEmpty()) {
+                unusedWordCount++;
+            }
+        }
+        if (unusedWordCount > 0 && unusedWordCount * 2 >= nodesByWord.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the persons having a word in their name within {@code maxDistance} edits of {@code keyword},
+     * mapped to the edit distance of their closest word. {@code keyword} must be in lower case.
+     */
+    public Map<Person, Integer> search(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        Map<Person, Integer> distancesByPerson = new IdentityHashMap<>();
+        if (root == null) {
+            return distancesByPerson;
+        }
+
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.editDistance(keyword, node.word);
+            if (distance <= maxDistance) {
+                for (Person person : node.persons) {
+                    distancesByPerson.merge(person, distance, Math::min);
+                }
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return distancesByPerson;
+    }
+
+    /**
+     * Returns the distinct words in {@code name}, in lower case.
+     */
+    public static List<String> wordsOf(Name name) {
+        return Arrays.stream(StringUtil.foldCase(name.fullName).split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private Node insert(String word) {
+        Node node = new Node(word);
+        nodesByWord.put(word, node);
+        if (root == null) {
+            root = node;
+            return node;
+        }
+
+        Node parent = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, parent.word);
+            Node child = parent.children.get(distance);
+            if (child == null) {
+                parent.children.put(distance, node);
+                return node;
+            }
+            parent = child;
+        }
+    }
+
+    private void rebuild() {
+        List<Node> usedNodes = new ArrayList<>();
+        for (Node node : nodesByWord.values()) {
+            if (!node.persons.isEmpty()) {
+                usedNodes.add(node);
+            }
+        }
+
+        nodesByWord.clear();
+        root = null;
+        unusedWordCount = 0;
+        for (Node usedNode : usedNodes) {
+            insert(usedNode.word).persons.addAll(usedNode.persons);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the trigrams (runs of three characters) of each searchable {@code Person} field to the
+ * persons whose field contains them, so that a substring search only has to check a few candidates.
+ *
+ * Fields are indexed in lower case, folded by {@link StringUtil#foldCase(String)} as the find predicates fold them.
+ * A keyword can only be a substring of a field if every trigram of the keyword is also a trigram of the field,
+ * so the persons having all of them include every match. Keywords shorter than a trigram cannot be narrowed
+ * down this way, and every person is a candidate for them. Neither is it worth it for keywords whose rarest trigram
+ * is found in a large share of the persons, as checking every person directly is then faster.
+ *
+ * The words in names are also kept in a {@link NameWordTree}, which finds the persons with a word within an edit
+ * distance of a keyword for typo-tolerant searches.
+ *
+ * Tags are a small vocabulary shared by many persons, so they are kept in a {@link TagIndex} of the persons having
+ * each tag instead. A tag keyword is only matched against the names of the tags in use, and its candidates are
+ * exactly the persons having one of the matching tags.
+ *
+ * A field is only indexed the first time it is searched, and is kept up to date from then on.
+ */
+public class PersonSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /** Keywords with more candidates than this fraction of the persons are not narrowed down. */
+    private static final double MAX_CANDIDATE_FRACTION = 0.25;
+
+    /**
+     * A searchable field of a {@code Person}, and the values of it that a keyword is matched against.
+     */
+    public enum Field {
+        NAME(person -> List.of(person.getName().fullName)),
+        PHONE(person -> List.of(person.getPhone().value)),
+        EMAIL(person -> List.of(person.getEmail().value)),
+        ADDRESS(person -> List.of(person.getAddress().value)),
+        SOCIAL(person -> List.of(person.getSocials().toString())),
+        TAG(person -> person.getTags().stream().map(tag -> tag.tagName).toList());
+
+        private final Function<Person, Collection<String>> valuesOf;
+
+        Field(Function<Person, Collection<String>> valuesOf) {
+            this.valuesOf = valuesOf;
+        }
+
+        public Collection<String> valuesOf(Person person) {
+            return valuesOf.apply(person);
+        }
+    }
+
+    /**
+     * A predicate that matches persons having a value of {@code getField()} that contains any of
+     * {@code getKeywords()}, ignoring case.
+     */
+    public interface FieldPredicate extends Predicate<Person> {
+        Field getField();
+
+        List<String> getKeywords();
+    }
+
+    /**
+     * A predicate that matches persons having a word in their name within {@code getMaxDistance(keyword)} edits of
+     * any of {@code getKeywords()}, ignoring case.
+     */
+    public interface FuzzyNamePredicate extends Predicate<Person> {
+        List<String> getKeywords();
+
+        int getMaxDistance(String keyword);
+    }
+
+    private final Collection<Person> persons;
+    private final Map<Field, Map<String, Set<Person>>> postingsByField = new EnumMap<>(Field.class);
+    private NameWordTree nameWordTree;
+    private TagIndex tagIndex;
+    private long modificationCount;
+
+    /**
+     * Creates an index over {@code persons}, which is read when a field is indexed for the first time.
+     * Every later change to {@code persons} must be reported through {@link #add}, {@link #remove} or
+     * {@link #clear}.
+     */
+    public PersonSearchIndex(Collection<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Indexes a person added to the persons.
+     */
+    public void add(Person person) {
+        postingsByField.forEach((field, postings) -> addTo(postings, field, person));
+        if (nameWordTree != null) {
+            nameWordTree.add(person);
+        }
+        if (tagIndex != null) {
+            tagIndex.add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes a person removed from the persons from the index.
+     */
+    public void remove(Person person) {
+        postingsByField.forEach((field, postings) -> removeFrom(postings, field, person));
+        if (nameWordTree != null) {
+            nameWordTree.remove(person);
+        }
+        if (tagIndex != null) {
+            tagIndex.remove(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Drops the whole index, for when the persons are replaced all at once.
+     */
+    public void clear() {
+        postingsByField.clear();
+        nameWordTree = null;
+        tagIndex = null;
+        modificationCount++;
+    }
+
+    /**
+     * Returns the persons that may have a value of {@code field} containing any of {@code keywords}, ignoring case,
+     * or null if every person may.
+     */
+    public Set<Person> getCandidates(Field field, Collection<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        if (field == Field.TAG) {
+            TagIndex currentTagIndex = getTagIndex();
+            List<String> lowerCaseKeywords = keywords.stream().map(StringUtil::foldCase).toList();
+            return currentTagIndex.getPersons(currentTagIndex.getSlotsWithTagContainingAny(lowerCaseKeywords));
+        }
+
+        Map<String, Set<Person>> postings = getPostings(field);
+        int maxCandidates = (int) (persons.size() * MAX_CANDIDATE_FRACTION);
+
+        Set<Person> candidates = newIdentitySet();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = StringUtil.foldCase(keyword);
+            if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+                return null;
+            }
+            Set<Person> keywordCandidates = getPersonsWithAllTrigramsOf(postings, lowerCaseKeyword, maxCandidates);
+            if (keywordCandidates == null) {
+                return null;
+            }
+            candidates.addAll(keywordCandidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the index of the tags of the persons, building it if needed.
+     * The index is replaced when the persons are cleared, so it should not be kept across changes.
+     */
+    public TagIndex getTagIndex() {
+        if (tagIndex == null) {
+            tagIndex = new TagIndex();
+            persons.forEach(tagIndex::add);
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Returns the persons having a word in their name within {@code predicate.getMaxDistance(keyword)} edits of any of
+     * {@code predicate.getKeywords()}, ignoring case, mapped to the edit distance of their closest word.
+     */
+    public Map<Person, Integer> getFuzzyNameMatches(FuzzyNamePredicate predicate) {
+        requireNonNull(predicate);
+        if (nameWordTree == null) {
+            nameWordTree = new NameWordTree();
+            persons.forEach(nameWordTree::add);
+        }
+
+        Map<Person, Integer> distancesByPerson = new IdentityHashMap<>();
+        for (String keyword : predicate.getKeywords()) {
+            nameWordTree.search(StringUtil.foldCase(keyword), predicate.getMaxDistance(keyword))
+                    .forEach((person, distance) -> distancesByPerson.merge(person, distance, Math::min));
+        }
+        return distancesByPerson;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the candidates for its keywords.
+     * The candidates are looked up again whenever the persons have changed since the last test.
+     */
+    public Predicate<Person> narrow(FieldPredicate predicate) {
+        requireNonNull(predicate);
+        return narrow(predicate, () -> getCandidates(predicate.getField(), predicate.getKeywords()));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the persons the name word tree finds
+     * for its keywords.
+     * The matches are looked up again whenever the persons have changed since the last test.
+     */
+    public Predicate<Person> narrow(FuzzyNamePredicate predicate) {
+        requireNonNull(predicate);
+        return narrow(predicate, () -> getFuzzyNameMatches(predicate).keySet());
+    }
+
+    /**
+     * Returns a predicate that tests {@code predicate} on the candidates from {@code candidatesSupplier}.
+     * It can be tested from several threads at once while the persons are not changed, if {@code predicate} can:
+     * the candidates are only looked up by one of them, and are only read once they are complete.
+     */
+    private Predicate<Person> narrow(Predicate<Person> predicate, Supplier<Set<Person>> candidatesSupplier) {
+        return new Predicate<>() {
+            private volatile long candidatesModificationCount = -1;
+            private volatile Set<Person> candidates;
+
+            @Override
+            public boolean test(Person person) {
+                if (candidatesModificationCount != modificationCount) {
+                    updateCandidates();
+                }
+                Set<Person> currentCandidates = candidates;
+                return (currentCandidates == null || currentCandidates.contains(person)) && predicate.test(person);
+            }
+
+            private synchronized void updateCandidates() {
+                if (candidatesModificationCount != modificationCount) {
+                    candidates = candidatesSupplier.get();
+                    candidatesModificationCount = modificationCount;
+                }
+            }
+        };
+    }
+
+    private Map<String, Set<Person>> getPostings(Field field) {
+        Map<String, Set<Person>> postings = postingsByField.get(field);
+        if (postings == null) {
+            postings = new HashMap<>();
+            for (Person person : persons) {
+                addTo(postings, field, person);
+            }
+            postingsByField.put(field, postings);
+        }
+        return postings;
+    }
+
+    /**
+     * Returns the persons having every trigram of {@code keyword}, or null if the rarest of them is found in more
+     * than {@code maxCandidates} persons.
+     */
+    private static Set<Person> getPersonsWithAllTrigramsOf(Map<String, Set<Person>> postings, String keyword,
+            int maxCandidates) {
+        Set<String> trigrams = trigramsOf(keyword);
+        Set<Person> rarest = null;
+        for (String trigram : trigrams) {
+            Set<Person> personsWithTrigram = postings.get(trigram);
+            if (personsWithTrigram == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || personsWithTrigram.size() < rarest.size()) {
+                rarest = personsWithTrigram;
+            }
+        }
+        if (rarest.size() > maxCandidates) {
+            return null;
+        }
+
+        Set<Person> result = newIdentitySet();
+        for (Person person : rarest) {
+            if (trigrams.stream().allMatch(trigram -> postings.get(trigram).contains(person))) {
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    private static void addTo(Map<String, Set<Person>> postings, Field field, Person person) {
+        for (String trigram : trigramsOf(field, person)) {
+            postings.computeIfAbsent(trigram, unused -> newIdentitySet()).add(person);
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Person>> postings, Field field, Person person) {
+        for (String trigram : trigramsOf(field, person)) {
+            Set<Person> personsWithTrigram = postings.get(trigram);
+            if (personsWithTrigram != null && personsWithTrigram.remove(person) && personsWithTrigram.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(Field field, Person person) {
+        Set<String> trigrams = new HashSet<>();
+        for (String value : field.valuesOf(person)) {
+            trigrams.addAll(trigramsOf(StringUtil.foldCase(value)));
+        }
+        return trigrams;
+    }
+
+    private static Set<String> trigramsOf(String lowerCaseValue) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseValue.length(); i++) {
+            trigrams.add(lowerCaseValue.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
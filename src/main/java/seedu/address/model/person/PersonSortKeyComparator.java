@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Compares persons by some of their fields, in the order given, ignoring case.
+ *
+ * The fields of a person are joined into a single sort key the first time the person is compared, and later
+ * comparisons only compare the keys. Each field is written as its lowercased text, except tags and socials after the
+ * first field, which are compared by their number. The fields are separated by a character that sorts before any
+ * other, so comparing the keys compares the fields one by one.
+ *
+ * The persons to sort can be ranked in advance: their keys are computed and sorted, in parallel for a large address
+ * book, and each person is given the rank of its key. The sort itself then only compares ranks, which compare the
+ * same way as the keys. Persons without a rank, such as persons added later, are compared by their keys.
+ * The keys are kept for the persons they were computed for, so the owner of the comparator must forget them once the
+ * persons change, or the keys of edited and deleted persons are never released.
+ */
+public class PersonSortKeyComparator implements Comparator<Person> {
+
+    public static final List<String> FIELDS = List.of("name", "phone", "email", "address", "tags", "socials");
+
+    private static final char FIELD_SEPARATOR = '\0';
+    private static final int UNRANKED = -1;
+
+    private final List<String> fields;
+    private final boolean isReverse;
+    private Map<Person, SortKey> sortKeys = new IdentityHashMap<>();
+
+    /**
+     * The sort key of a person, and its rank among the keys of the persons last ranked.
+     */
+    private static class SortKey {
+        private final String key;
+        private int rank = UNRANKED;
+
+        private SortKey(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Creates a comparator by {@code fields}, each of which must be one of {@code FIELDS}, ignoring case.
+     */
+    public PersonSortKeyComparator(List<String> fields) {
+        this(fields, false);
+    }
+
+    /**
+     * Creates a comparator by {@code fields}, each of which must be one of {@code FIELDS}, ignoring case.
+     * The order is reversed if {@code isReverse} is true.
+     */
+    public PersonSortKeyComparator(List<String> fields, boolean isReverse) {
+        requireNonNull(fields);
+        checkArgument(!fields.isEmpty(), "At least one field must be given");
+        this.fields = fields.stream().map(field -> field.toLowerCase(Locale.ROOT)).toList();
+        this.fields.forEach(field -> checkArgument(FIELDS.contains(field), "Invalid field: " + field));
+        this.isReverse = isReverse;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return isReverse ? compareKeys(getSortKey(second), getSortKey(first))
+                : compareKeys(getSortKey(first), getSortKey(second));
+    }
+
+    /**
+     * Ranks {@code persons}: computes their sort keys that are not known yet and sorts the keys, both in parallel if
+     * {@code isParallel} is true, and gives each person the rank of its key. Equal keys are given the same rank.
+     * Only the keys of {@code persons} are kept afterwards.
+     */
+    public void rank(List<Person> persons, boolean isParallel) {
+        requireNonNull(persons);
+        SortKey[] keys = new SortKey[persons.size()];
+        IntStream indexes = IntStream.range(0, persons.size());
+        (isParallel ? indexes.parallel() : indexes).forEach(i -> {
+            SortKey known = sortKeys.get(persons.get(i));
+            keys[i] = known != null ? known : new SortKey(createSortKey(persons.get(i)));
+        });
+
+        SortKey[] sortedKeys = keys.clone();
+        Comparator<SortKey> byKey = Comparator.comparing(sortKey -> sortKey.key);
+        if (isParallel) {
+            Arrays.parallelSort(sortedKeys, byKey);
+        } else {
+            Arrays.sort(sortedKeys, byKey);
+        }
+        int rank = 0;
+        for (int i = 0; i < sortedKeys.length; i++) {
+            if (i > 0 && !sortedKeys[i].key.equals(sortedKeys[i - 1].key)) {
+                rank = i;
+            }
+            sortedKeys[i].rank = rank;
+        }
+
+        Map<Person, SortKey> rankedKeys = new IdentityHashMap<>(persons.size());
+        for (int i = 0; i < keys.length; i++) {
+            rankedKeys.put(persons.get(i), keys[i]);
+        }
+        sortKeys = rankedKeys;
+    }
+
+    /**
+     * Forgets the sort keys computed so far, so that the persons they were computed for can be released.
+     * The keys of the persons compared later are computed again.
+     */
+    public void forgetSortKeys() {
+        sortKeys.clear();
+    }
+
+    /**
+     * Returns the number of persons whose sort keys are kept.
+     */
+    public int getSortKeyCount() {
+        return sortKeys.size();
+    }
+
+    private SortKey getSortKey(Person person) {
+        return sortKeys.computeIfAbsent(person, unknown -> new SortKey(createSortKey(unknown)));
+    }
+
+    /**
+     * Compares two keys by their ranks if both are ranked, and by their text otherwise. As the ranks are given in the
+     * order of the text, both compare the same way.
+     */
+    private static int compareKeys(SortKey first, SortKey second) {
+        if (first.rank != UNRANKED && second.rank != UNRANKED) {
+            return Integer.compare(first.rank, second.rank);
+        }
+        return first.key.compareTo(second.key);
+    }
+
+    private String createSortKey(Person person) {
+        StringBuilder sortKey = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                sortKey.append(FIELD_SEPARATOR);
+            }
+            switch (fields.get(i)) {
+                case "name" -> appendText(sortKey, person.getName().toString());
+                case "phone" -> appendText(sortKey, person.getPhone().toString());
+                case "email" -> appendText(sortKey, person.getEmail().toString());
+                case "address" -> appendText(sortKey, person.getAddress().toString());
+                case "tags" -> appendCollection(sortKey, person.getTags(), i);
+                case "socials" -> appendCollection(sortKey, person.getSocials(), i);
+                default -> throw new AssertionError(fields.get(i));
+            }
+        }
+        return sortKey.toString();
+    }
+
+    private static void appendText(StringBuilder sortKey, String text) {
+        sortKey.append(text.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Appends the key of a collection field: its text when it is the first field, or else its size as a single
+     * character, which compares the same way as the size as long as it is below 65536.
+     */
+    private static void appendCollection(StringBuilder sortKey, Set<?> collection, int fieldIndex) {
+        if (fieldIndex == 0) {
+            appendText(sortKey, collection.toString());
+        } else {
+            sortKey.append((char) Math.min(collection.size(), Character.MAX_VALUE));
+        }
+    }
+}
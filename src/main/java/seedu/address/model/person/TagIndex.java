@@ -0,0 +1,134 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from each tag in use to a bitmap of the persons having it, so that tag searches combine a few bitmaps
+ * instead of going through the tags of every person.
+ *
+ * Each person is given a slot, which is their bit in the bitmaps. The slot of a removed person is given to the next
+ * person added, so the bitmaps stay as small as the largest number of persons indexed at once. A tag is dropped from
+ * the index once no person has it.
+ *
+ * The index is kept up to date by the {@link PersonSearchIndex} it belongs to, and can only be read from outside
+ * this package.
+ */
+public class TagIndex {
+
+    private final Map<Tag, BitSet> slotsByTag = new HashMap<>();
+    private final Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+
+    /**
+     * Indexes the tags of a person added to the persons.
+     */
+    void add(Person person) {
+        int slot = freeSlots.isEmpty() ? personsBySlot.size() : freeSlots.nextSetBit(0);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+            freeSlots.clear(slot);
+        }
+        slotsByPerson.put(person, slot);
+        for (Tag tag : person.getTags()) {
+            slotsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Removes a person removed from the persons from the index.
+     */
+    void remove(Person person) {
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+        personsBySlot.set(slot, null);
+        freeSlots.set(slot);
+        for (Tag tag : person.getTags()) {
+            BitSet slots = slotsByTag.get(tag);
+            if (slots != null) {
+                slots.clear(slot);
+                if (slots.isEmpty()) {
+                    slotsByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        slotsByTag.clear();
+        slotsByPerson.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+    }
+
+    /**
+     * Returns the number of persons having each tag in use, by tag name.
+     */
+    public Map<String, Integer> getTagCounts() {
+        Map<String, Integer> countsByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER.thenComparing(name -> name));
+        slotsByTag.forEach((tag, slots) -> countsByName.put(tag.tagName, slots.cardinality()));
+        return countsByName;
+    }
+
+    /**
+     * Returns the slots of the persons having a tag whose name contains any of {@code lowerCaseKeywords},
+     * ignoring case. The keywords must be in lower case, as given by {@link StringUtil#foldCase(String)}.
+     */
+    public BitSet getSlotsWithTagContainingAny(Collection<String> lowerCaseKeywords) {
+        requireNonNull(lowerCaseKeywords);
+        BitSet matches = new BitSet();
+        slotsByTag.forEach((tag, slots) -> {
+            if (StringUtil.containsAnyIgnoreCase(tag.tagName, lowerCaseKeywords)) {
+                matches.or(slots);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the slots of every person in the index.
+     */
+    public BitSet getAllSlots() {
+        BitSet slots = new BitSet();
+        slots.set(0, personsBySlot.size());
+        slots.andNot(freeSlots);
+        return slots;
+    }
+
+    /**
+     * Returns the persons in {@code slots}.
+     */
+    public Set<Person> getPersons(BitSet slots) {
+        requireNonNull(slots);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = slots.nextSetBit(0); slot >= 0 && slot < personsBySlot.size();
+                slot = slots.nextSetBit(slot + 1)) {
+            Person person = personsBySlot.get(slot);
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+}
@@ -3,13 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -22,6 +26,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Persons are also indexed by {@code Name} (the identity used by {@code Person#isSamePerson(Person)}) and by
+ * {@code Person#getId()}, so that identity checks and id lookups do not need to scan the whole list.
+ * A {@link PersonSearchIndex} over the searchable fields narrows down substring and typo-tolerant name searches.
+ * All indexes are updated before the list itself changes, so list listeners always see consistent indexes.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -29,13 +38,68 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<String, Person> personsById = new HashMap<>();
+    // Ids are hashes of the name and phone, so two persons can share one. This counts the persons sharing each such id.
+    private final Map<String, Integer> sharedIdCounts = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(internalList);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person with the given ID, or null if no such person is in the list.
+     */
+    public Person getById(String id) {
+        requireNonNull(id);
+        return personsById.get(id);
+    }
+
+    /**
+     * Returns the person with the given name, or null if no such person is in the list.
+     */
+    public Person getByName(Name name) {
+        requireNonNull(name);
+        return personsByName.get(name);
+    }
+
+    /**
+     * Returns the persons in this list that the search index finds may match {@code predicate}, or null if every
+     * person may.
+     */
+    public Set<Person> getSearchCandidates(PersonSearchIndex.FieldPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.getCandidates(predicate.getField(), predicate.getKeywords());
+    }
+
+    /**
+     * Returns the index of the tags of the persons in this list.
+     */
+    public TagIndex getTagIndex() {
+        return searchIndex.getTagIndex();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index to only test the persons
+     * in this list that may match it.
+     */
+    public Predicate<Person> narrowBySearchIndex(PersonSearchIndex.FieldPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.narrow(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index to only test the persons
+     * in this list that match it.
+     */
+    public Predicate<Person> narrowBySearchIndex(PersonSearchIndex.FuzzyNamePredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.narrow(predicate);
     }
 
     /**
@@ -47,6 +111,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -58,8 +123,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person stored = getStoredInstance(target);
+        if (stored == null) {
             throw new PersonNotFoundException();
         }
 
@@ -67,6 +132,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(stored);
+        removeFromIndexes(stored);
+        addToIndexes(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -76,44 +144,39 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person stored = getStoredInstance(toRemove);
+        if (stored == null) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(stored);
+        internalList.remove(stored);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Duplicates are found in a single hash pass, and all of them are reported together.
+     * The list is then filled with a single {@code setAll}, so listeners see one change.
+     *
+     * @throws DuplicatePersonException listing every name that appears more than once in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<Name> duplicateNames = findDuplicateNames(persons);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
-    /**
-     * Sorts the internal list of persons using the provided comparator.
-     * Catches any exceptions that might occur during sorting.
-     */
-    public void sortPersons(Comparator<? super Person> comparator) throws CommandException {
-        requireNonNull(comparator);
-        try {
-            FXCollections.sort(internalList, comparator);
-        } catch (Exception e) {
-            throw new CommandException("An error occurred while sorting the persons list: "
-                    + "Possible error is one of the sorting fields in some person is null. "
-                    + "Please add sufficient value to sort properly.", e);
-        }
-    }
-
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -151,16 +214,78 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person in the list that is equal to {@code person} (by {@code Person#equals(Object)}), or null if
+     * there is none. Since names are unique within the list, only the person indexed under the same name can be equal
+     * to it. As equality ignores some fields, such as the id, the person returned may be another instance than
+     * {@code person}, and it is the one the indexes hold.
+     */
+    private Person getStoredInstance(Person person) {
+        Person existing = personsByName.get(person.getName());
+        return existing != null && existing.equals(person) ? existing : null;
+    }
+
+    private void addToIndexes(Person person) {
+        personsByName.put(person.getName(), person);
+        if (personsById.putIfAbsent(person.getId(), person) != null) {
+            sharedIdCounts.merge(person.getId(), 2, (count, added) -> count + 1);
+        }
+        searchIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person}, which must be the instance stored in the list, from the indexes.
+     * If another person has the same id, that person can then be found by the id instead.
+     */
+    private void removeFromIndexes(Person person) {
+        personsByName.remove(person.getName());
+        String id = person.getId();
+        Integer sharedIdCount = sharedIdCounts.get(id);
+        if (sharedIdCount == null) {
+            personsById.remove(id);
+        } else {
+            if (sharedIdCount == 2) {
+                sharedIdCounts.remove(id);
+            } else {
+                sharedIdCounts.put(id, sharedIdCount - 1);
+            }
+            if (personsById.get(id) == person) {
+                personsById.put(id, findOtherPersonWithId(person));
+            }
+        }
+        searchIndex.remove(person);
+    }
+
+    /**
+     * Returns the first person in the list other than {@code person} with the same id as it.
+     * This goes through the list, but is only needed when persons share an id.
+     */
+    private Person findOtherPersonWithId(Person person) {
+        return internalList.stream()
+                .filter(other -> other != person && other.getId().equals(person.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        personsByName.clear();
+        personsById.clear();
+        sharedIdCounts.clear();
+        // The search index reads the new list when it is next used
+        searchIndex.clear();
+        persons.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Returns the names shared by more than one person in {@code persons}, in order of first repetition.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Set<Name> findDuplicateNames(List<Person> persons) {
+        Set<Name> seenNames = new HashSet<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                duplicateNames.add(person.getName());
             }
         }
-        return true;
+        return duplicateNames;
     }
 }
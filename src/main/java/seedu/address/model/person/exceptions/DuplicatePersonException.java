@@ -1,11 +1,43 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Name> duplicateNames;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateNames = List.of();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} that reports every name which appears more than once.
+     */
+    public DuplicatePersonException(Collection<Name> duplicateNames) {
+        super("Operation would result in duplicate persons: " + joinNames(duplicateNames));
+        this.duplicateNames = List.copyOf(duplicateNames);
+    }
+
+    /**
+     * Returns the names that appear more than once, or an empty list if they were not reported.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
+    }
+
+    /**
+     * Returns the given names as a comma-separated string.
+     */
+    public static String joinNames(Collection<Name> names) {
+        return names.stream().map(name -> name.fullName).collect(Collectors.joining(", "));
     }
 }
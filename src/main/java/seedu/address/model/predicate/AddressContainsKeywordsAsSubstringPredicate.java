@@ -1,29 +1,46 @@
 package seedu.address.model.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsAsSubstringPredicate
+        implements PersonSearchIndex.FieldPredicate, RankedPredicate {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Constructs a {@code AddressContainsKeywordsAsSubstringPredicate} matching any of {@code keywords}.
+     */
     public AddressContainsKeywordsAsSubstringPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(StringUtil::foldCase).toList();
+    }
+
+    @Override
+    public PersonSearchIndex.Field getField() {
+        return PersonSearchIndex.Field.ADDRESS;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> containsSubstringIgnoreCase(person.getAddress().value, keyword));
+        return StringUtil.containsAnyIgnoreCase(person.getAddress().value, lowerCaseKeywords);
     }
 
-    private boolean containsSubstringIgnoreCase(String address, String keyword) {
-        return address.toLowerCase().contains(keyword.toLowerCase());
+    @Override
+    public int getRelevance(Person person) {
+        return KeywordRelevance.score(getField().valuesOf(person), lowerCaseKeywords);
     }
 
     @Override
@@ -0,0 +1,85 @@
+package seedu.address.model.predicate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} is a contact of an {@code Event} whose name matches any of the keywords given.
+ *
+ * The ids of the matching persons are found in one pass over all the events in the address book, so that
+ * testing a person is a set lookup. The pass is repeated only once the address book has changed.
+ */
+public class EventContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
+
+    private final Model model;
+
+    private long matchingPersonIdsModificationCount = -1;
+    private Set<String> matchingPersonIds;
+
+    /**
+     * Constructs an {@code EventContainsKeywordsAsSubstringPredicate}.
+     *
+     * @param keywords The list of keywords to match against event names
+     * @param model The model to search within for events
+     */
+    public EventContainsKeywordsAsSubstringPredicate(List<String> keywords, Model model) {
+        this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(StringUtil::foldCase).toList();
+        this.model = model;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (matchingPersonIds == null || matchingPersonIdsModificationCount != modificationCount) {
+            matchingPersonIds = findMatchingPersonIds(model.getAddressBook().getEventList());
+            matchingPersonIdsModificationCount = modificationCount;
+        }
+        return matchingPersonIds.contains(person.getId());
+    }
+
+    /**
+     * Returns the ids of the contacts of the events in {@code events} whose name contains any of the keywords.
+     */
+    private Set<String> findMatchingPersonIds(List<Event> events) {
+        Set<String> personIds = new HashSet<>();
+        for (Event event : events) {
+            if (containsAnyKeyword(event.getName())) {
+                event.getContacts().forEach(contact -> personIds.add(contact.getId()));
+            }
+        }
+        return personIds;
+    }
+
+    private boolean containsAnyKeyword(String eventName) {
+        return StringUtil.containsAnyIgnoreCase(eventName, lowerCaseKeywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof EventContainsKeywordsAsSubstringPredicate otherPredicate)) {
+            return false;
+        }
+
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.predicate;
+
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Scores how well the values of a field match the keywords of a substring search, ignoring case.
+ *
+ * A keyword matching more of the value scores higher: a whole word of the value beats the start of a word, which
+ * beats any other part of the value. The number of keywords matched outweighs how well each of them matches.
+ */
+public class KeywordRelevance {
+
+    public static final int SUBSTRING_MATCH = 1;
+    public static final int WORD_PREFIX_MATCH = 2;
+    public static final int WORD_MATCH = 3;
+
+    /**
+     * Returns the relevance of {@code values} to {@code lowerCaseKeywords}, or 0 if no value contains any of the
+     * keywords. The keywords must already be in lower case.
+     */
+    public static int score(Collection<String> values, List<String> lowerCaseKeywords) {
+        int matchedKeywordCount = 0;
+        int matchQualitySum = 0;
+        for (String lowerCaseKeyword : lowerCaseKeywords) {
+            int matchQuality = getMatchQuality(values, lowerCaseKeyword);
+            if (matchQuality > 0) {
+                matchedKeywordCount++;
+                matchQualitySum += matchQuality;
+            }
+        }
+        // Any extra keyword matched beats every keyword matching better
+        return matchedKeywordCount * (WORD_MATCH * lowerCaseKeywords.size() + 1) + matchQualitySum;
+    }
+
+    private static int getMatchQuality(Collection<String> values, String lowerCaseKeyword) {
+        if (lowerCaseKeyword.isEmpty()) {
+            return 0;
+        }
+
+        int bestMatchQuality = 0;
+        for (String value : values) {
+            for (int start = StringUtil.indexOfIgnoreCase(value, lowerCaseKeyword, 0); start >= 0;
+                    start = StringUtil.indexOfIgnoreCase(value, lowerCaseKeyword, start + 1)) {
+                int end = start + lowerCaseKeyword.length();
+                boolean isWordStart = start == 0 || !Character.isLetterOrDigit(value.charAt(start - 1));
+                boolean isWordEnd = end == value.length() || !Character.isLetterOrDigit(value.charAt(end));
+                if (!isWordStart) {
+                    bestMatchQuality = Math.max(bestMatchQuality, SUBSTRING_MATCH);
+                } else if (!isWordEnd) {
+                    bestMatchQuality = Math.max(bestMatchQuality, WORD_PREFIX_MATCH);
+                } else {
+                    return WORD_MATCH;
+                }
+            }
+        }
+        return bestMatchQuality;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.predicate;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameWordTree;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word that is any of the keywords given, or differs from it by a few
+ * typos. Longer keywords allow more typos, and names with fewer typos are more relevant.
+ */
+public class NameWithinEditDistancePredicate implements PersonSearchIndex.FuzzyNamePredicate, RankedPredicate {
+
+    /** Keywords up to this length must match a word exactly. */
+    public static final int MAX_LENGTH_WITHOUT_TYPOS = 2;
+
+    /** Keywords up to this length may differ from a word by one typo, and longer ones by two. */
+    public static final int MAX_LENGTH_WITH_ONE_TYPO = 5;
+
+    public static final int MAX_TYPOS = 2;
+
+    private final List<String> keywords;
+
+    public NameWithinEditDistancePredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public int getMaxDistance(String keyword) {
+        if (keyword.length() <= MAX_LENGTH_WITHOUT_TYPOS) {
+            return 0;
+        }
+        return keyword.length() <= MAX_LENGTH_WITH_ONE_TYPO ? 1 : MAX_TYPOS;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person).isPresent();
+    }
+
+    @Override
+    public int getRelevance(Person person) {
+        return MAX_TYPOS - getDistance(person).orElse(MAX_TYPOS);
+    }
+
+    /**
+     * Returns the number of typos between the closest pair of a keyword and a word in the name of {@code person},
+     * or an empty {@code OptionalInt} if no word is close enough to a keyword.
+     */
+    public OptionalInt getDistance(Person person) {
+        List<String> words = NameWordTree.wordsOf(person.getName());
+        OptionalInt closestDistance = OptionalInt.empty();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = StringUtil.foldCase(keyword);
+            int maxDistance = getMaxDistance(keyword);
+            for (String word : words) {
+                int distance = StringUtil.editDistance(lowerCaseKeyword, word);
+                if (distance <= maxDistance
+                        && (closestDistance.isEmpty() || distance < closestDistance.getAsInt())) {
+                    closestDistance = OptionalInt.of(distance);
+                }
+            }
+        }
+        return closestDistance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameWithinEditDistancePredicate otherPredicate)) {
+            return false;
+        }
+
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
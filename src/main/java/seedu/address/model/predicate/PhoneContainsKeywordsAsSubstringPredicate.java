@@ -1,29 +1,46 @@
 package seedu.address.model.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsAsSubstringPredicate
+        implements PersonSearchIndex.FieldPredicate, RankedPredicate {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Constructs a {@code PhoneContainsKeywordsAsSubstringPredicate} matching any of {@code keywords}.
+     */
     public PhoneContainsKeywordsAsSubstringPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(StringUtil::foldCase).toList();
+    }
+
+    @Override
+    public PersonSearchIndex.Field getField() {
+        return PersonSearchIndex.Field.PHONE;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> containsSubstringIgnoreCase(person.getPhone().value, keyword));
+        return StringUtil.containsAnyIgnoreCase(person.getPhone().value, lowerCaseKeywords);
     }
 
-    private boolean containsSubstringIgnoreCase(String phone, String keyword) {
-        return phone.toLowerCase().contains(keyword.toLowerCase());
+    @Override
+    public int getRelevance(Person person) {
+        return KeywordRelevance.score(getField().valuesOf(person), lowerCaseKeywords);
     }
 
     @Override
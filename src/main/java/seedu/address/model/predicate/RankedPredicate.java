@@ -0,0 +1,19 @@
+package seedu.address.model.predicate;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on persons that can also rank the persons it matches, so that the best matches of a search
+ * can be listed first.
+ *
+ * Implementations must be safe to test and rank persons from several threads at once, as the persons of a large
+ * address book are ranked in parallel.
+ */
+public interface RankedPredicate extends Predicate<Person> {
+    /**
+     * Returns how well {@code person}, who must match this predicate, matches it. Higher is better.
+     */
+    int getRelevance(Person person);
+}
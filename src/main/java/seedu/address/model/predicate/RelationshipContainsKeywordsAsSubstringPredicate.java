@@ -1,9 +1,11 @@
 package seedu.address.model.predicate;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -11,12 +13,19 @@ import seedu.address.model.relationship.Relationship;
 
 /**
  * Tests that a {@code Person}'s {@code Relationships} matches any of the keywords given.
+ *
+ * The ids of the matching persons are found in one pass over all the relationships in the address book, so that
+ * testing a person is a set lookup. The pass is repeated only once the address book has changed.
  */
 public class RelationshipContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
     private final Model model;
 
+    private long matchingPersonIdsModificationCount = -1;
+    private Set<String> matchingPersonIds;
+
     /**
      * Constructs a {@code RelationshipContainsKeywordsAsSubstringPredicate}.
      *
@@ -25,29 +34,42 @@ public class RelationshipContainsKeywordsAsSubstringPredicate implements Predica
      */
     public RelationshipContainsKeywordsAsSubstringPredicate(List<String> keywords, Model model) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(StringUtil::foldCase).toList();
         this.model = model;
     }
 
     @Override
     public boolean test(Person person) {
-        ObservableList<Relationship> relationships = model.getFilteredRelationshipList();
-        return relationships.stream().anyMatch(relationship -> {
-            if (person.getId().equals(relationship.getFirstUserId())) {
-                return keywords.stream().anyMatch(keyword ->
-                        relationship.getForwardName() != null
-                                && containsSubstringIgnoreCase(relationship.getForwardName(), keyword));
+        long modificationCount = model.getAddressBookModificationCount();
+        if (matchingPersonIds == null || matchingPersonIdsModificationCount != modificationCount) {
+            matchingPersonIds = findMatchingPersonIds(model.getAddressBook().getRelationshipList());
+            matchingPersonIdsModificationCount = modificationCount;
+        }
+        return matchingPersonIds.contains(person.getId());
+    }
+
+    /**
+     * Returns the ids of the persons whose role in any of {@code relationships} contains any of the keywords.
+     * Only the first role of a relationship is matched when both of its users are the same person.
+     */
+    private Set<String> findMatchingPersonIds(List<Relationship> relationships) {
+        Set<String> personIds = new HashSet<>();
+        for (Relationship relationship : relationships) {
+            if (containsAnyKeyword(relationship.getForwardName())) {
+                personIds.add(relationship.getFirstUserId());
             }
-            if (person.getId().equals(relationship.getSecondUserId())) {
-                return keywords.stream().anyMatch(keyword ->
-                        relationship.getReverseName() != null
-                                && containsSubstringIgnoreCase(relationship.getReverseName(), keyword));
+            if (!relationship.getSecondUserId().equals(relationship.getFirstUserId())
+                    && containsAnyKeyword(relationship.getReverseName())) {
+                personIds.add(relationship.getSecondUserId());
             }
-            return false;
-        });
+        }
+        return personIds;
     }
-    private boolean containsSubstringIgnoreCase(String role, String keyword) {
-        return role.toLowerCase().contains(keyword.toLowerCase());
+
+    private boolean containsAnyKeyword(String role) {
+        return StringUtil.containsAnyIgnoreCase(role, lowerCaseKeywords);
     }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,32 +1,49 @@
 package seedu.address.model.predicate;
 
+import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s tags contain any of the keywords given.
  */
-public class TagContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
+public class TagContainsKeywordsAsSubstringPredicate
+        implements PersonSearchIndex.FieldPredicate, RankedPredicate {
     private final Set<Tag> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Constructs a {@code TagContainsKeywordsAsSubstringPredicate} matching the names of any of {@code keywords}.
+     */
     public TagContainsKeywordsAsSubstringPredicate(Set<Tag> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(keyword -> StringUtil.foldCase(keyword.tagName)).toList();
+    }
+
+    @Override
+    public PersonSearchIndex.Field getField() {
+        return PersonSearchIndex.Field.TAG;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords.stream().map(keyword -> keyword.tagName).toList();
     }
 
     @Override
     public boolean test(Person person) {
         return person.getTags().stream()
-                .anyMatch(tag -> keywords.stream()
-                        .anyMatch(keyword -> tag.tagName.toLowerCase()
-                                .contains(keyword.tagName.toLowerCase())));
+                .anyMatch(tag -> StringUtil.containsAnyIgnoreCase(tag.tagName, lowerCaseKeywords));
     }
 
-    private boolean containsSubstringIgnoreCase(String tagName, String keyword) {
-        return tagName.toLowerCase().contains(keyword.toLowerCase());
+    @Override
+    public int getRelevance(Person person) {
+        return KeywordRelevance.score(getField().valuesOf(person), lowerCaseKeywords);
     }
 
     @Override
@@ -0,0 +1,134 @@
+package seedu.address.model.predicate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} is one of the best matches of a {@code RankedPredicate} among the persons of a model.
+ *
+ * The best matches are selected with a priority queue holding at most {@code limit} persons, so the persons are
+ * never sorted as a whole. Persons of equal relevance are taken in the order of the address book. The best matches are
+ * selected again whenever the address book has changed since the last test. As a filtered list only tests the persons
+ * that changed, the list must be given the predicate again after a change for its persons to match the best matches.
+ *
+ * For a large address book, the persons can be tested and ranked in parallel before the best matches are selected.
+ */
+public class TopMatchesPredicate implements Predicate<Person> {
+
+    /** The relevance of a person that does not match. */
+    private static final int NO_MATCH = Integer.MIN_VALUE;
+
+    /** Orders matches from the worst, which is the one to drop when the queue is full. */
+    private static final Comparator<Match> WORST_FIRST = Comparator.<Match>comparingInt(match -> match.relevance)
+            .thenComparing(Comparator.<Match>comparingInt(match -> match.index).reversed());
+
+    /**
+     * A person matching the predicate, and what it is ranked by.
+     */
+    private static class Match {
+        private final Person person;
+        private final int relevance;
+        private final int index;
+
+        private Match(Person person, int relevance, int index) {
+            this.person = person;
+            this.relevance = relevance;
+            this.index = index;
+        }
+    }
+
+    private final RankedPredicate predicate;
+    private final Predicate<Person> matcher;
+    private final int limit;
+    private final Model model;
+    private final boolean isParallel;
+
+    private long topMatchesModificationCount = -1;
+    private Set<Person> topMatches;
+    private int matchCount;
+
+    /**
+     * Creates a predicate for the best {@code limit} matches of {@code predicate} among the persons of {@code model}.
+     * {@code matcher} must match the same persons as {@code predicate}, and is used to find them instead, so that it
+     * can be narrowed down by the search index.
+     */
+    public TopMatchesPredicate(RankedPredicate predicate, Predicate<Person> matcher, int limit, Model model) {
+        this(predicate, matcher, limit, model, false);
+    }
+
+    /**
+     * Creates a predicate like {@link #TopMatchesPredicate(RankedPredicate, Predicate, int, Model)}, which tests and
+     * ranks the persons in parallel if {@code isParallel} is true. {@code matcher} must then be safe to test from
+     * several threads at once.
+     */
+    public TopMatchesPredicate(RankedPredicate predicate, Predicate<Person> matcher, int limit, Model model,
+            boolean isParallel) {
+        requireAllNonNull(predicate, matcher, model);
+        this.predicate = predicate;
+        this.matcher = matcher;
+        this.limit = limit;
+        this.model = model;
+        this.isParallel = isParallel;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        updateTopMatches();
+        return topMatches.contains(person);
+    }
+
+    /**
+     * Returns the number of persons matching the predicate, including those that are not among the best matches.
+     */
+    public int getMatchCount() {
+        updateTopMatches();
+        return matchCount;
+    }
+
+    private void updateTopMatches() {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (topMatchesModificationCount == modificationCount) {
+            return;
+        }
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        int[] relevances = new int[persons.size()];
+        IntStream indexes = IntStream.range(0, persons.size());
+        (isParallel ? indexes.parallel() : indexes).forEach(i -> relevances[i] = getRelevanceIfMatch(persons.get(i)));
+
+        PriorityQueue<Match> bestMatches = new PriorityQueue<>(WORST_FIRST);
+        matchCount = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            if (relevances[i] == NO_MATCH) {
+                continue;
+            }
+            matchCount++;
+            Match match = new Match(persons.get(i), relevances[i], i);
+            if (bestMatches.size() < limit) {
+                bestMatches.add(match);
+            } else if (!bestMatches.isEmpty() && WORST_FIRST.compare(match, bestMatches.peek()) > 0) {
+                bestMatches.poll();
+                bestMatches.add(match);
+            }
+        }
+
+        topMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        bestMatches.forEach(match -> topMatches.add(match.person));
+        topMatchesModificationCount = modificationCount;
+    }
+
+    private int getRelevanceIfMatch(Person person) {
+        return matcher.test(person) ? predicate.getRelevance(person) : NO_MATCH;
+    }
+}
@@ -0,0 +1,391 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.predicate.TagContainsKeywordsAsSubstringPredicate;
+
+/**
+ * A condition on persons, made of single-field conditions combined with AND, OR and NOT.
+ *
+ * Each query estimates how costly it is to test one person, and which persons it can possibly match according to
+ * the search index. The operands of AND and OR are kept in order of increasing cost, so that the cheap ones can
+ * decide the result before the costly ones are tested.
+ *
+ * Queries made only of tag conditions are matched as a whole on the bitmaps of the {@link TagIndex}, by combining
+ * the bitmaps of their conditions with AND, OR and NOT.
+ */
+public abstract class PersonQuery implements Predicate<Person> {
+
+    /** Cost of testing a condition on a person's own fields. */
+    public static final int COST_FIELD = 1;
+
+    /** Cost of testing a condition on a person's relationships or events, which are kept apart from the person. */
+    public static final int COST_LINKED = 4;
+
+    private static final Comparator<PersonQuery> BY_COST = Comparator.comparingInt(PersonQuery::getCost);
+
+    /**
+     * Returns a query matching the persons that {@code predicate} matches.
+     *
+     * @param text The condition as entered by the user
+     * @param cost The estimated cost of testing {@code predicate} on one person
+     */
+    public static PersonQuery condition(String text, Predicate<Person> predicate, int cost) {
+        return new Condition(text, predicate, cost);
+    }
+
+    /**
+     * Returns a query matching the persons that all of {@code operands} match.
+     */
+    public static PersonQuery and(List<PersonQuery> operands) {
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    /**
+     * Returns a query matching the persons that any of {@code operands} match.
+     */
+    public static PersonQuery or(List<PersonQuery> operands) {
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    /**
+     * Returns a query matching the persons that {@code operand} does not match.
+     */
+    public static PersonQuery not(PersonQuery operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * Returns the estimated cost of testing one person.
+     */
+    public abstract int getCost();
+
+    /**
+     * Returns the persons in {@code model} that may match this query, or null if every person may.
+     */
+    public abstract Set<Person> getCandidates(Model model);
+
+    /**
+     * Returns the slots in {@code tagIndex} of the persons matching this query, or null if the query does not only
+     * depend on the tags of the persons.
+     */
+    public abstract BitSet getTagMatches(TagIndex tagIndex);
+
+    /**
+     * Returns the persons matching this query according to the tag index of {@code model}, or null if the query does
+     * not only depend on the tags of the persons.
+     */
+    protected Set<Person> getPersonsByTagMatches(Model model) {
+        TagIndex tagIndex = model.getTagIndex();
+        BitSet matches = getTagMatches(tagIndex);
+        return matches == null ? null : tagIndex.getPersons(matches);
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A condition on a single field of a person.
+     */
+    private static class Condition extends PersonQuery {
+        private final String text;
+        private final Predicate<Person> predicate;
+        private final int cost;
+
+        Condition(String text, Predicate<Person> predicate, int cost) {
+            requireNonNull(text);
+            requireNonNull(predicate);
+            this.text = text;
+            this.predicate = predicate;
+            this.cost = cost;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public int getCost() {
+            return cost;
+        }
+
+        @Override
+        public Set<Person> getCandidates(Model model) {
+            if (predicate instanceof PersonSearchIndex.FieldPredicate fieldPredicate) {
+                return model.getSearchCandidates(fieldPredicate);
+            }
+            return null;
+        }
+
+        @Override
+        public BitSet getTagMatches(TagIndex tagIndex) {
+            if (predicate instanceof TagContainsKeywordsAsSubstringPredicate tagPredicate) {
+                List<String> lowerCaseKeywords =
+                        tagPredicate.getKeywords().stream().map(StringUtil::foldCase).toList();
+                return tagIndex.getSlotsWithTagContainingAny(lowerCaseKeywords);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Condition otherCondition)) {
+                return false;
+            }
+
+            return predicate.equals(otherCondition.predicate) && cost == otherCondition.cost;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Matches the persons that all of its operands match.
+     */
+    private static class And extends PersonQuery {
+        private final List<PersonQuery> operands;
+
+        And(List<PersonQuery> operands) {
+            this.operands = operands.stream().sorted(BY_COST).toList();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (PersonQuery operand : operands) {
+                if (!operand.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int getCost() {
+            return operands.stream().mapToInt(PersonQuery::getCost).sum();
+        }
+
+        /**
+         * Returns the candidates of the most selective operand, as every match is among them.
+         * The operands that only depend on tags are taken together as one operand, matched on the tag index.
+         */
+        @Override
+        public Set<Person> getCandidates(Model model) {
+            TagIndex tagIndex = model.getTagIndex();
+            BitSet tagMatches = null;
+            Set<Person> fewestCandidates = null;
+            for (PersonQuery operand : operands) {
+                BitSet operandTagMatches = operand.getTagMatches(tagIndex);
+                if (operandTagMatches != null) {
+                    tagMatches = intersect(tagMatches, operandTagMatches);
+                    continue;
+                }
+                Set<Person> candidates = operand.getCandidates(model);
+                if (candidates != null && (fewestCandidates == null || candidates.size() < fewestCandidates.size())) {
+                    fewestCandidates = candidates;
+                }
+            }
+
+            if (tagMatches != null
+                    && (fewestCandidates == null || tagMatches.cardinality() < fewestCandidates.size())) {
+                return tagIndex.getPersons(tagMatches);
+            }
+            return fewestCandidates;
+        }
+
+        @Override
+        public BitSet getTagMatches(TagIndex tagIndex) {
+            BitSet matches = null;
+            for (PersonQuery operand : operands) {
+                BitSet operandMatches = operand.getTagMatches(tagIndex);
+                if (operandMatches == null) {
+                    return null;
+                }
+                matches = intersect(matches, operandMatches);
+            }
+            return matches;
+        }
+
+        private static BitSet intersect(BitSet matches, BitSet operandMatches) {
+            if (matches == null) {
+                return operandMatches;
+            }
+            matches.and(operandMatches);
+            return matches;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof And otherAnd)) {
+                return false;
+            }
+
+            return operands.equals(otherAnd.operands);
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(PersonQuery::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches the persons that any of its operands match.
+     */
+    private static class Or extends PersonQuery {
+        private final List<PersonQuery> operands;
+
+        Or(List<PersonQuery> operands) {
+            this.operands = operands.stream().sorted(BY_COST).toList();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (PersonQuery operand : operands) {
+                if (operand.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int getCost() {
+            return operands.stream().mapToInt(PersonQuery::getCost).sum();
+        }
+
+        /**
+         * Returns the candidates of all operands together, if every operand can narrow down its matches.
+         */
+        @Override
+        public Set<Person> getCandidates(Model model) {
+            Set<Person> tagMatchingPersons = getPersonsByTagMatches(model);
+            if (tagMatchingPersons != null) {
+                return tagMatchingPersons;
+            }
+
+            Set<Person> allCandidates = newIdentitySet();
+            for (PersonQuery operand : operands) {
+                Set<Person> candidates = operand.getCandidates(model);
+                if (candidates == null) {
+                    return null;
+                }
+                allCandidates.addAll(candidates);
+            }
+            return allCandidates;
+        }
+
+        @Override
+        public BitSet getTagMatches(TagIndex tagIndex) {
+            BitSet matches = new BitSet();
+            for (PersonQuery operand : operands) {
+                BitSet operandMatches = operand.getTagMatches(tagIndex);
+                if (operandMatches == null) {
+                    return null;
+                }
+                matches.or(operandMatches);
+            }
+            return matches;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Or otherOr)) {
+                return false;
+            }
+
+            return operands.equals(otherOr.operands);
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(PersonQuery::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches the persons that its operand does not match.
+     */
+    private static class Not extends PersonQuery {
+        private final PersonQuery operand;
+
+        Not(PersonQuery operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public int getCost() {
+            return operand.getCost();
+        }
+
+        @Override
+        public Set<Person> getCandidates(Model model) {
+            return getPersonsByTagMatches(model);
+        }
+
+        @Override
+        public BitSet getTagMatches(TagIndex tagIndex) {
+            BitSet operandMatches = operand.getTagMatches(tagIndex);
+            if (operandMatches == null) {
+                return null;
+            }
+            BitSet matches = tagIndex.getAllSlots();
+            matches.andNot(operandMatches);
+            return matches;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Not otherNot)) {
+                return false;
+            }
+
+            return operand.equals(otherNot.operand);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code PersonQuery} ready to filter the persons of a model.
+ *
+ * The persons are first narrowed down to the candidates the search index finds for the query, and only those are
+ * tested against it. The candidates are looked up again whenever the address book has changed since the last test,
+ * so the plan can stay in use as the filter of the person list.
+ */
+public class QueryPlan implements Predicate<Person> {
+
+    private final PersonQuery query;
+    private final Model model;
+
+    private long candidatesModificationCount = -1;
+    private Set<Person> candidates;
+    private long planningNanos;
+
+    /**
+     * Creates a plan to evaluate {@code query} on the persons of {@code model}.
+     */
+    public QueryPlan(PersonQuery query, Model model) {
+        requireAllNonNull(query, model);
+        this.query = query;
+        this.model = model;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (candidatesModificationCount != modificationCount) {
+            long start = System.nanoTime();
+            candidates = query.getCandidates(model);
+            planningNanos = System.nanoTime() - start;
+            candidatesModificationCount = modificationCount;
+        }
+        return (candidates == null || candidates.contains(person)) && query.test(person);
+    }
+
+    /**
+     * Returns the number of persons the query is tested on, out of {@code personCount} persons.
+     */
+    public int getCandidateCount(int personCount) {
+        return candidates == null ? personCount : candidates.size();
+    }
+
+    /**
+     * Returns the time taken by the last lookup of the candidates.
+     */
+    public long getPlanningNanos() {
+        return planningNanos;
+    }
+
+    public PersonQuery getQuery() {
+        return query;
+    }
+}
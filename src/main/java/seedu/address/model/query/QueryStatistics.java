@@ -0,0 +1,102 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * How a {@code PersonQuery} was evaluated: the planned query, how many persons it had to be tested on, and how long
+ * it took.
+ */
+public class QueryStatistics {
+
+    private final String plan;
+    private final int personCount;
+    private final int candidateCount;
+    private final int matchCount;
+    private final long planningNanos;
+    private final long totalNanos;
+
+    /**
+     * Creates the statistics of one evaluation of a query.
+     *
+     * @param plan The query as planned, with operands in the order they are tested
+     * @param personCount The number of persons in the address book
+     * @param candidateCount The number of persons the query was tested on after the search index narrowed them down
+     * @param matchCount The number of persons matching the query
+     * @param planningNanos The time taken to look up the candidates in the search index
+     * @param totalNanos The time taken by the whole evaluation, including the lookup
+     */
+    public QueryStatistics(String plan, int personCount, int candidateCount, int matchCount, long planningNanos,
+            long totalNanos) {
+        requireNonNull(plan);
+        this.plan = plan;
+        this.personCount = personCount;
+        this.candidateCount = candidateCount;
+        this.matchCount = matchCount;
+        this.planningNanos = planningNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public long getPlanningNanos() {
+        return planningNanos;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryStatistics otherStatistics)) {
+            return false;
+        }
+
+        return plan.equals(otherStatistics.plan)
+                && personCount == otherStatistics.personCount
+                && candidateCount == otherStatistics.candidateCount
+                && matchCount == otherStatistics.matchCount
+                && planningNanos == otherStatistics.planningNanos
+                && totalNanos == otherStatistics.totalNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(plan, personCount, candidateCount, matchCount, planningNanos, totalNanos);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("plan", plan)
+                .add("personCount", personCount)
+                .add("candidateCount", candidateCount)
+                .add("matchCount", matchCount)
+                .add("planningNanos", planningNanos)
+                .add("totalNanos", totalNanos)
+                .toString();
+    }
+}
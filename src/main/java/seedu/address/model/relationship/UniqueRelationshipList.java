@@ -3,8 +3,14 @@ package seedu.address.model.relationship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -17,6 +23,10 @@ import seedu.address.model.relationship.exceptions.RelationshipNotFoundException
  * A list of relationships that enforces uniqueness between its elements and does not allow nulls.
  * A relationship is considered unique by comparing using {@code Relationship#isSameRelationship(Relationship)}.
  * Supports a minimal set of list operations.
+ *
+ * Relationships are also indexed by user ID (an adjacency map) and by the unordered pair of user IDs they connect.
+ * Queries about one user or one pair of users therefore only look at that user's or pair's relationships,
+ * not at the whole list. The indexes are updated before the list itself changes, so list listeners see them in sync.
  */
 public class UniqueRelationshipList implements Iterable<Relationship> {
     private static final Logger logger = LogsCenter.getLogger(UniqueRelationshipList.class);
@@ -24,6 +34,8 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     private final ObservableList<Relationship> internalList = FXCollections.observableArrayList();
     private final ObservableList<Relationship> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, List<Relationship>> relationshipsByUser = new HashMap<>();
+    private final Map<List<String>, List<Relationship>> relationshipsByPair = new HashMap<>();
 
     /**
      * Checks if the list contains an equivalent relationship.
@@ -34,7 +46,8 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      */
     public boolean contains(Relationship toCheck) {
         requireNonNull(toCheck, "Relationship to check cannot be null");
-        return internalList.stream().anyMatch(toCheck::isSameRelationship);
+        return getRelationshipsBetween(toCheck.getFirstUserId(), toCheck.getSecondUserId()).stream()
+                .anyMatch(toCheck::isSameRelationship);
     }
 
     /**
@@ -48,7 +61,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     public boolean contains(String firstUserId, String secondUserId, String relationshipName) {
         requireAllNonNull(firstUserId, secondUserId, relationshipName);
 
-        return internalList.stream()
+        return getRelationshipsBetween(firstUserId, secondUserId).stream()
                 .anyMatch(r -> r.isSameRelationship(firstUserId, secondUserId, relationshipName));
     }
 
@@ -62,23 +75,18 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     public boolean hasAnyRelationshipBetween(String firstUserId, String secondUserId) {
         requireAllNonNull(firstUserId, secondUserId);
 
-        return internalList.stream()
-                .anyMatch(r -> isRelationshipBetweenUsers(r, firstUserId, secondUserId));
+        return !getRelationshipsBetween(firstUserId, secondUserId).isEmpty();
     }
 
     /**
-     * Checks if the given relationship is between the two specified users.
+     * Returns the relationships that involve the given user, in the order they were added.
      *
-     * @param relationship The relationship to check.
-     * @param firstUserId The user ID of the first user.
-     * @param secondUserId The user ID of the second user.
-     * @return True if the relationship is between the two specified users, False otherwise.
+     * @param userId The user ID to look up.
+     * @return An unmodifiable list of the user's relationships, empty if the user has none.
      */
-    private boolean isRelationshipBetweenUsers(Relationship relationship, String firstUserId, String secondUserId) {
-        return (relationship.getFirstUserId().equals(firstUserId)
-                && relationship.getSecondUserId().equals(secondUserId))
-                || (relationship.getFirstUserId().equals(secondUserId)
-                && relationship.getSecondUserId().equals(firstUserId));
+    public List<Relationship> getRelationshipsOf(String userId) {
+        requireNonNull(userId);
+        return List.copyOf(relationshipsByUser.getOrDefault(userId, List.of()));
     }
 
     /**
@@ -95,6 +103,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
             throw new DuplicateRelationshipException();
         }
 
+        addToIndexes(toAdd);
         internalList.add(toAdd);
         logger.fine("Added relationship: " + toAdd);
     }
@@ -111,13 +120,16 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     public void remove(String firstUserId, String secondUserId, String relationshipName) {
         requireAllNonNull(firstUserId, secondUserId, relationshipName);
 
-        boolean wasRemoved = internalList.removeIf(relationship ->
-                relationship.isSameRelationship(firstUserId, secondUserId, relationshipName));
+        List<Relationship> toRemove = getRelationshipsBetween(firstUserId, secondUserId).stream()
+                .filter(relationship -> relationship.isSameRelationship(firstUserId, secondUserId, relationshipName))
+                .toList();
 
-        if (!wasRemoved) {
+        if (toRemove.isEmpty()) {
             throw new RelationshipNotFoundException();
         }
 
+        removeAll(toRemove);
+
         logger.fine(String.format("Removed relationship between %s and %s", firstUserId, secondUserId));
     }
 
@@ -179,7 +191,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      * @return The relationship with the given user IDs and name, or null if not found.
      */
     public Relationship getRelationship(String userId1, String userId2, String relationshipName) {
-        return internalList.stream()
+        return getRelationshipsBetween(userId1, userId2).stream()
                 .filter(r -> r.isSameRelationship(userId1, userId2, relationshipName))
                 .findFirst()
                 .orElse(null);
@@ -199,6 +211,8 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
             throw new RelationshipNotFoundException();
         }
 
+        removeFromIndexes(internalList.get(index));
+        addToIndexes(editedRelationship);
         internalList.set(index, editedRelationship);
     }
 
@@ -206,8 +220,11 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      * Sets the relationships in this list to the given list of relationships.
      * @param relationships The list of relationships to set.
      */
-    public void setRelationships(List<Relationship>relationships) {
+    public void setRelationships(List<Relationship> relationships) {
         requireNonNull(relationships);
+        relationshipsByUser.clear();
+        relationshipsByPair.clear();
+        relationships.forEach(this::addToIndexes);
         internalList.setAll(relationships);
     }
 
@@ -218,8 +235,75 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      * @return true if any relationships were removed, false otherwise.
      */
     public boolean removeRelationshipsInvolvingUser(String userId) {
-        return internalList.removeIf(relationship ->
-                relationship.getFirstUserId().equals(userId) || relationship.getSecondUserId().equals(userId));
+        // The user's own bucket is dropped whole, so only the buckets of the other users are searched
+        List<Relationship> toRemove = relationshipsByUser.remove(userId);
+        if (toRemove == null) {
+            return false;
+        }
+
+        removeAll(toRemove);
+        return true;
+    }
+
+    /**
+     * Removes {@code toRemove}, which must all be in the list, from the indexes and the list.
+     * They are looked up in an identity set, so the list is gone through once however many are removed, and the
+     * list is changed with a single {@code removeAll}, so listeners see one change.
+     */
+    private void removeAll(List<Relationship> toRemove) {
+        Set<Relationship> toRemoveSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRemoveSet.addAll(toRemove);
+        toRemove.forEach(this::removeFromIndexes);
+        internalList.removeAll(toRemoveSet);
+    }
+
+    /**
+     * Returns the relationships between the two given users, in either direction.
+     */
+    private List<Relationship> getRelationshipsBetween(String firstUserId, String secondUserId) {
+        return relationshipsByPair.getOrDefault(pairKey(firstUserId, secondUserId), List.of());
+    }
+
+    private void addToIndexes(Relationship relationship) {
+        String firstUserId = relationship.getFirstUserId();
+        String secondUserId = relationship.getSecondUserId();
+        relationshipsByUser.computeIfAbsent(firstUserId, unused -> new ArrayList<>()).add(relationship);
+        if (!firstUserId.equals(secondUserId)) {
+            relationshipsByUser.computeIfAbsent(secondUserId, unused -> new ArrayList<>()).add(relationship);
+        }
+        relationshipsByPair.computeIfAbsent(pairKey(firstUserId, secondUserId), unused -> new ArrayList<>())
+                .add(relationship);
+    }
+
+    private void removeFromIndexes(Relationship relationship) {
+        removeFromIndex(relationshipsByUser, relationship.getFirstUserId(), relationship);
+        removeFromIndex(relationshipsByUser, relationship.getSecondUserId(), relationship);
+        removeFromIndex(relationshipsByPair,
+                pairKey(relationship.getFirstUserId(), relationship.getSecondUserId()), relationship);
+    }
+
+    /**
+     * Removes {@code relationship} from the bucket under {@code key}, if there is one, dropping the bucket once it
+     * is empty.
+     */
+    private static <K> void removeFromIndex(Map<K, List<Relationship>> index, K key, Relationship relationship) {
+        List<Relationship> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(relationship);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns a key for the unordered pair of user IDs, so that (a, b) and (b, a) map to the same key.
+     */
+    private static List<String> pairKey(String firstUserId, String secondUserId) {
+        return firstUserId.compareTo(secondUserId) <= 0
+                ? List.of(firstUserId, secondUserId)
+                : List.of(secondUserId, firstUserId);
     }
 
     @Override
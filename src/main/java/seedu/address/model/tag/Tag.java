@@ -3,15 +3,29 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags are a small vocabulary shared by many persons, so the tags read from storage or user input are interned
+ * through {@link #of(String)}, which returns the same instance for every tag of the same name. Interned tags are
+ * only weakly held, so a tag that is no longer used, such as a search keyword, is not kept for the life of the app.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /**
+     * The dictionary of interned tags, by name. Each tag is keyed on its own {@code tagName}, so the entry is dropped
+     * once the tag is no longer used.
+     */
+    private static final Map<String, WeakReference<Tag>> INTERNED_TAGS = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +39,24 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the interned tag named {@code tagName}, creating it if there is none yet.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (INTERNED_TAGS) {
+            WeakReference<Tag> reference = INTERNED_TAGS.get(tagName);
+            Tag tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                INTERNED_TAGS.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
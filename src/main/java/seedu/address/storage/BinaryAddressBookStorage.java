@@ -0,0 +1,459 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Social;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by the persons, relationships and events,
+ * and ends with a CRC32 checksum of everything before it. Person ids, relationship names and tags are interned:
+ * each distinct value is written once and later occurrences refer back to it, so a tag is only validated once
+ * per file however many persons carry it. Events refer to their contacts by their position in the persons, as
+ * person ids are hashes that two persons may share.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Extension of the files this storage is meant for. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final int MAGIC_NUMBER = 0x494E4342; // "INCB"
+    public static final int FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Address book snapshot is corrupted.";
+    public static final String MESSAGE_MISSING_FIELD = "Address book snapshot is missing a %s.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int backupGenerations;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps the contents of the last {@code backupGenerations}
+     * saves of a file as backups next to it.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupGenerations) {
+        this.filePath = filePath;
+        this.backupGenerations = backupGenerations;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in the binary snapshot format, judging by its extension.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(new SnapshotReader(in, Files.size(filePath)).readAddressBook());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, backupGenerations, out -> new SnapshotWriter(out).write(addressBook));
+    }
+
+    /**
+     * Writes one address book snapshot to a stream.
+     */
+    private static class SnapshotWriter {
+        private final CheckedOutputStream checkedOut;
+        private final DataOutputStream out;
+        private final Map<String, Integer> internedStrings = new HashMap<>();
+        private final Map<Tag, Integer> internedTags = new HashMap<>();
+        private final Map<Name, Integer> personPositions = new HashMap<>();
+
+        SnapshotWriter(OutputStream out) {
+            this.checkedOut = new CheckedOutputStream(out, new CRC32());
+            this.out = new DataOutputStream(checkedOut);
+        }
+
+        void write(ReadOnlyAddressBook addressBook) throws IOException {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+
+            writeCount(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                personPositions.put(person.getName(), personPositions.size());
+                writeString(person.getName().fullName);
+                writeString(person.getPhone().value);
+                writeString(person.getEmail().value);
+                writeString(person.getAddress().value);
+                writeCount(person.getSocials().size());
+                for (Social social : person.getSocials()) {
+                    writeString(social.value);
+                }
+                writeTags(person.getTags());
+                writeInternedString(person.getId());
+            }
+
+            writeCount(addressBook.getRelationshipList().size());
+            for (Relationship relationship : addressBook.getRelationshipList()) {
+                writeInternedString(relationship.getFirstUserId());
+                writeInternedString(relationship.getSecondUserId());
+                writeInternedString(relationship.getForwardName());
+                writeInternedString(relationship.getReverseName());
+                writeTags(relationship.getTags());
+            }
+
+            writeCount(addressBook.getEventList().size());
+            for (Event event : addressBook.getEventList()) {
+                writeString(event.getId());
+                writeString(event.getName());
+                writeString(event.getDate());
+                writeString(event.getLocation());
+                writeString(event.getDescription());
+                writeTags(event.getTags());
+                writeCount(event.getContacts().size());
+                for (Person contact : event.getContacts()) {
+                    writeCount(personPositions.get(contact.getName()));
+                }
+            }
+
+            out.flush();
+            out.writeInt((int) checkedOut.getChecksum().getValue());
+            out.flush();
+        }
+
+        private void writeTags(Set<Tag> tags) throws IOException {
+            writeCount(tags.size());
+            for (Tag tag : tags) {
+                Integer index = internedTags.get(tag);
+                if (index != null) {
+                    writeCount(index + 1);
+                } else {
+                    writeCount(0);
+                    writeString(tag.tagName);
+                    internedTags.put(tag, internedTags.size());
+                }
+            }
+        }
+
+        /**
+         * Writes {@code value} in full the first time it is seen, and as a reference to that first time after.
+         */
+        private void writeInternedString(String value) throws IOException {
+            Integer index = internedStrings.get(value);
+            if (index != null) {
+                writeCount(index + 1);
+            } else {
+                writeCount(0);
+                writeString(value);
+                internedStrings.put(value, internedStrings.size());
+            }
+        }
+
+        /**
+         * Writes a string as its UTF-8 length plus one, or 0 for null, followed by its UTF-8 bytes.
+         */
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeCount(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeCount(bytes.length + 1);
+            out.write(bytes);
+        }
+
+        /**
+         * Writes a non-negative number in as few bytes as it needs, seven bits per byte.
+         */
+        private void writeCount(int count) throws IOException {
+            int remaining = count;
+            while ((remaining & ~0x7F) != 0) {
+                out.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.writeByte(remaining);
+        }
+    }
+
+    /**
+     * Reads one address book snapshot from a stream, checking it as it goes.
+     */
+    private static class SnapshotReader {
+        private final CheckedInputStream checkedIn;
+        private final DataInputStream in;
+        private final long maxLength;
+        private final List<String> internedStrings = new ArrayList<>();
+        private final List<Tag> internedTags = new ArrayList<>();
+
+        SnapshotReader(InputStream in, long maxLength) {
+            this.checkedIn = new CheckedInputStream(in, new CRC32());
+            this.in = new DataInputStream(checkedIn);
+            this.maxLength = maxLength;
+        }
+
+        AddressBook readAddressBook() throws IOException, IllegalValueException {
+            if (maxLength < 2 * Integer.BYTES || in.readInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson());
+            }
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                        DuplicatePersonException.joinNames(dpe.getDuplicateNames())));
+            }
+
+            int relationshipCount = readCount();
+            for (int i = 0; i < relationshipCount; i++) {
+                Relationship relationship = readRelationship();
+                if (addressBook.hasRelationship(relationship)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RELATIONSHIP);
+                }
+                addressBook.addRelationship(relationship);
+            }
+
+            int eventCount = readCount();
+            for (int i = 0; i < eventCount; i++) {
+                Event event = readEvent(persons);
+                if (addressBook.hasEvent(event)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+                }
+                addressBook.addEvent(event);
+            }
+
+            int expectedChecksum = (int) checkedIn.getChecksum().getValue();
+            if (in.readInt() != expectedChecksum || in.read() != -1) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return addressBook;
+        }
+
+        private Person readPerson() throws IOException, IllegalValueException {
+            String name = readRequiredString("person name");
+            String phone = readRequiredString("person phone");
+            String email = readRequiredString("person email");
+            String address = readRequiredString("person address");
+            int socialCount = readCount();
+            Set<Social> socials = new HashSet<>();
+            for (int i = 0; i < socialCount; i++) {
+                socials.add(new Social(readRequiredString("person social")));
+            }
+            Set<Tag> tags = readTags();
+            String id = readInternedString();
+            try {
+                return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                        socials, tags, id);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+        }
+
+        private Relationship readRelationship() throws IOException, IllegalValueException {
+            String user1Id = readInternedString();
+            String user2Id = readInternedString();
+            String forwardName = readInternedString();
+            String reverseName = readInternedString();
+            Set<Tag> tags = readTags();
+            try {
+                return new Relationship(user1Id, user2Id, forwardName, reverseName, tags);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+        }
+
+        private Event readEvent(List<Person> persons) throws IOException, IllegalValueException {
+            String id = readRequiredString("event id");
+            String name = readRequiredString("event name");
+            String date = readRequiredString("event date");
+            String location = readString();
+            String description = readString();
+            Set<Tag> tags = readTags();
+
+            UniquePersonList contacts = new UniquePersonList();
+            int contactCount = readCount();
+            for (int i = 0; i < contactCount; i++) {
+                int position = readCount();
+                if (position >= persons.size()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                Person contact = persons.get(position);
+                if (contacts.contains(contact)) {
+                    throw new IllegalValueException(
+                            String.format(JsonAdaptedEvent.MESSAGE_DUPLICATE_CONTACT, contact.getName()));
+                }
+                contacts.add(contact);
+            }
+
+            try {
+                return new Event(id, name, LocalDateTime.parse(date), location, description, tags, contacts);
+            } catch (DateTimeParseException dtpe) {
+                throw new IllegalValueException(dtpe.getMessage());
+            }
+        }
+
+        private Set<Tag> readTags() throws IOException, IllegalValueException {
+            int tagCount = readCount();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                int reference = readCount();
+                if (reference == 0) {
+                    String tagName = readRequiredString("tag");
+                    if (!Tag.isValidTagName(tagName)) {
+                        throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                    }
+                    Tag tag = Tag.of(tagName);
+                    internedTags.add(tag);
+                    tags.add(tag);
+                } else if (reference <= internedTags.size()) {
+                    tags.add(internedTags.get(reference - 1));
+                } else {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+            return tags;
+        }
+
+        private String readInternedString() throws IOException, IllegalValueException {
+            int reference = readCount();
+            if (reference == 0) {
+                String value = readRequiredString("value");
+                internedStrings.add(value);
+                return value;
+            } else if (reference <= internedStrings.size()) {
+                return internedStrings.get(reference - 1);
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        private String readRequiredString(String fieldName) throws IOException, IllegalValueException {
+            String value = readString();
+            if (value == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, fieldName));
+            }
+            return value;
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            int lengthPlusOne = readCount();
+            if (lengthPlusOne == 0) {
+                return null;
+            }
+            if (lengthPlusOne - 1 > maxLength) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            byte[] bytes = new byte[lengthPlusOne - 1];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int readCount() throws IOException, IllegalValueException {
+            int count = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int b = in.readUnsignedByte();
+                count |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (count < 0 || count > maxLength) {
+                        throw new IllegalValueException(MESSAGE_CORRUPTED);
+                    }
+                    return count;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+}
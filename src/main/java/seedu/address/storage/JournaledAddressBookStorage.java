@@ -0,0 +1,335 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.relationship.Relationship;
+
+/**
+ * An {@code AddressBookStorage} that keeps a full snapshot in another {@code AddressBookStorage} and records
+ * later saves as entries in an append-only journal next to it, so a small edit only writes the change.
+ *
+ * The journal is a text file named after the snapshot with a {@code .journal} suffix. Its first line is a header
+ * holding the checksum of the snapshot it applies to, and every later line is one {@link JsonAdaptedJournalEntry}.
+ * Reading replays the complete entries on top of the snapshot and drops an incomplete last line left by a crash.
+ * Once the journal reaches the maximum number of entries or bytes it is compacted into a new snapshot.
+ * A journal whose header does not match the snapshot, such as one left behind by an interrupted compaction,
+ * is already part of the snapshot and is ignored. A journal that was not read with the contents being saved, such
+ * as the journal of a data file that could not be read and was replaced by a backup, is not deleted when a new
+ * snapshot is written over its file: it is moved aside to a path ending in {@code .unapplied}, as its entries may be
+ * the only copy of the last changes.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String UNAPPLIED_JOURNAL_SUFFIX = ".unapplied";
+    private static final char LINE_SEPARATOR = '\n';
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // What is currently stored at journaledFilePath: the snapshot plus the journal entries written so far.
+    private Path journaledFilePath;
+    private long snapshotChecksum;
+    private List<Person> persons;
+    private List<Relationship> relationships;
+    private List<Event> events;
+    private int journalEntries;
+    private long journalBytes;
+    private boolean isJournalBroken;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} over {@code snapshotStorage} that compacts the journal after
+     * {@link #DEFAULT_MAX_ENTRIES} entries or {@link #DEFAULT_MAX_BYTES} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} over {@code snapshotStorage} that compacts the journal after
+     * {@code maxEntries} entries or {@code maxBytes} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int maxEntries, long maxBytes) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty()) {
+            journaledFilePath = null;
+            return Optional.empty();
+        }
+
+        List<Person> personList = new ArrayList<>(snapshot.get().getPersonList());
+        List<Relationship> relationshipList = new ArrayList<>(snapshot.get().getRelationshipList());
+        List<Event> eventList = new ArrayList<>(snapshot.get().getEventList());
+        try {
+            snapshotChecksum = checksumOf(filePath);
+            replayJournal(journalPathOf(filePath), personList, relationshipList, eventList);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(personList);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataLoadingException(dpe);
+        }
+        addressBook.setRelationships(relationshipList);
+        addressBook.setEvents(eventList);
+
+        journaledFilePath = filePath;
+        isJournalBroken = false;
+        rememberContentsOf(addressBook);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(journaledFilePath) || isJournalBroken) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.of(persons, addressBook.getPersonList(),
+                relationships, addressBook.getRelationshipList(), events, addressBook.getEventList());
+        if (entry == null) {
+            return;
+        }
+
+        try {
+            appendToJournal(journalPathOf(filePath), JsonUtil.toJsonLine(entry));
+        } catch (IOException ioe) {
+            // The journal may now end with part of a line, so the next save writes a full snapshot instead
+            isJournalBroken = true;
+            throw ioe;
+        }
+        rememberContentsOf(addressBook);
+
+        if (journalEntries >= maxEntries || journalBytes >= maxBytes) {
+            logger.fine("Compacting journal of " + filePath + " after " + journalEntries + " entries");
+            compact(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath} and starts a new, empty journal for it.
+     * The old journal is deleted if its entries are part of {@code addressBook}, and set aside otherwise.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        boolean isJournalApplied = filePath.equals(journaledFilePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        snapshotChecksum = checksumOf(filePath);
+        Path journalPath = journalPathOf(filePath);
+        if (isJournalApplied) {
+            Files.deleteIfExists(journalPath);
+        } else if (Files.exists(journalPath)) {
+            setAside(journalPath);
+        }
+
+        journaledFilePath = filePath;
+        isJournalBroken = false;
+        journalEntries = 0;
+        journalBytes = 0;
+        rememberContentsOf(addressBook);
+    }
+
+    /**
+     * Appends one line to the journal, starting a new journal with a header if there is none yet.
+     */
+    private void appendToJournal(Path journalPath, String line) throws IOException {
+        StringBuilder toWrite = new StringBuilder();
+        StandardOpenOption writeMode = StandardOpenOption.APPEND;
+        if (journalBytes == 0) {
+            toWrite.append(JsonUtil.toJsonLine(new JournalHeader(snapshotChecksum))).append(LINE_SEPARATOR);
+            writeMode = StandardOpenOption.TRUNCATE_EXISTING;
+        }
+        toWrite.append(line).append(LINE_SEPARATOR);
+
+        ByteBuffer buffer = ByteBuffer.wrap(toWrite.toString().getBytes(StandardCharsets.UTF_8));
+        int length = buffer.remaining();
+        try (FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, writeMode)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        journalEntries++;
+        journalBytes += length;
+    }
+
+    /**
+     * Applies the complete entries of the journal at {@code journalPath} to the given lists, if the journal belongs
+     * to the current snapshot. Anything after the last entry that could be applied is cut off the journal.
+     */
+    private void replayJournal(Path journalPath, List<Person> personList, List<Relationship> relationshipList,
+            List<Event> eventList) throws IOException {
+        journalEntries = 0;
+        journalBytes = 0;
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        int lineStart = 0;
+        int lineEnd = indexOfLineSeparator(journal, lineStart);
+        if (lineEnd >= 0 && isHeaderFor(snapshotChecksum, readLine(journal, lineStart, lineEnd))) {
+            lineStart = lineEnd + 1;
+            for (lineEnd = indexOfLineSeparator(journal, lineStart); lineEnd >= 0;
+                    lineEnd = indexOfLineSeparator(journal, lineStart)) {
+                try {
+                    JsonUtil.fromJsonString(readLine(journal, lineStart, lineEnd), JsonAdaptedJournalEntry.class)
+                            .applyTo(personList, relationshipList, eventList);
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Ignoring journal " + journalPath + " from byte " + lineStart + ": " + e);
+                    break;
+                }
+                journalEntries++;
+                lineStart = lineEnd + 1;
+            }
+            journalBytes = lineStart;
+        } else {
+            logger.info("Ignoring journal " + journalPath + " as it does not belong to the current snapshot");
+        }
+
+        if (journalBytes == 0) {
+            Files.delete(journalPath);
+        } else if (journalBytes < journal.length) {
+            logger.warning("Discarding incomplete end of journal " + journalPath + " after byte " + journalBytes);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(journalBytes);
+            }
+        }
+    }
+
+    /**
+     * Moves the journal at {@code journalPath} to the first of its {@code .unapplied} paths that is free.
+     */
+    private static void setAside(Path journalPath) throws IOException {
+        Path asidePath = journalPath.resolveSibling(journalPath.getFileName() + UNAPPLIED_JOURNAL_SUFFIX);
+        Path freePath = asidePath;
+        for (int generation = 1; Files.exists(freePath); generation++) {
+            freePath = FileUtil.backupPathOf(asidePath, generation);
+        }
+        Files.move(journalPath, freePath);
+        logger.warning("Journal " + journalPath + " was not applied to the saved data, and was moved to " + freePath);
+    }
+
+    private void rememberContentsOf(ReadOnlyAddressBook addressBook) {
+        persons = new ArrayList<>(addressBook.getPersonList());
+        relationships = new ArrayList<>(addressBook.getRelationshipList());
+        // Events are copied as their contacts can be changed in place
+        events = addressBook.getEventList().stream().map(Event::copy).toList();
+    }
+
+    private static boolean isHeaderFor(long snapshotChecksum, String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JournalHeader.class).snapshotChecksum == snapshotChecksum;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    private static int indexOfLineSeparator(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == LINE_SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String readLine(byte[] bytes, int start, int end) {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code filePath}.
+     */
+    static Path journalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Jackson-friendly first line of a journal.
+     */
+    static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -5,22 +5,30 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * Contacts are stored by name, which is unique among the persons of an address book, and resolved against those
+ * persons when converted. Person ids are not used for this as they are hashes, which two persons may share.
+ * Files written before this stored every contact as a full copy of the person; those are still read.
  */
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_CONTACT = "Event's contact %s is not in the address book!";
+    public static final String MESSAGE_DUPLICATE_CONTACT = "Event's contact %s is listed more than once!";
 
     private final String id;
     private final String name;
@@ -28,10 +36,13 @@ class JsonAdaptedEvent {
     private final String location;
     private final String description;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
-    private final List<JsonAdaptedPerson> contacts = new ArrayList<>();
+    private final List<String> contactNames = new ArrayList<>();
+    @JsonIgnore
+    private final List<JsonAdaptedPerson> legacyContacts = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
+     * {@code contacts} holds the full contacts written by older versions and is only used when reading.
      */
     @JsonCreator
     public JsonAdaptedEvent(
@@ -41,6 +52,7 @@ class JsonAdaptedEvent {
             @JsonProperty("location") String location,
             @JsonProperty("description") String description,
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
+            @JsonProperty("contactNames") List<String> contactNames,
             @JsonProperty("contacts") List<JsonAdaptedPerson> contacts) {
         this.id = id;
         this.name = name;
@@ -50,8 +62,11 @@ class JsonAdaptedEvent {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        if (contactNames != null) {
+            this.contactNames.addAll(contactNames);
+        }
         if (contacts != null) {
-            this.contacts.addAll(contacts);
+            this.legacyContacts.addAll(contacts);
         }
     }
 
@@ -65,15 +80,19 @@ class JsonAdaptedEvent {
         this.location = source.getLocation();
         this.description = source.getDescription();
         this.tags.addAll(source.getTags().stream().map(JsonAdaptedTag::new).toList());
-        this.contacts.addAll(source.getContacts().stream().map(JsonAdaptedPerson::new).toList());
+        this.contactNames.addAll(source.getContacts().stream().map(contact -> contact.getName().fullName).toList());
     }
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Contacts are looked up by name with {@code personByName}, which returns null for a person that is not in the
+     * address book, so the event holds the same {@code Person} objects as the address book. Contacts in the older
+     * format are looked up by their name too, as their other details may be out of date; those no longer in the
+     * address book are left out.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(Function<Name, Person> personByName) throws IllegalValueException {
         // Optionally, add further validation for name if required.
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Name"));
@@ -91,13 +110,22 @@ class JsonAdaptedEvent {
         }
         final Set<Tag> modelTags = new HashSet<>(eventTags);
 
-        final List<Person> modelContacts = new ArrayList<>();
-        for (JsonAdaptedPerson jsonContact : contacts) {
-            modelContacts.add(jsonContact.toModelType());
-        }
         UniquePersonList contactsList = new UniquePersonList();
-        for (Person p : modelContacts) {
-            contactsList.add(p);
+        for (String contactName : contactNames) {
+            if (!Name.isValidName(contactName)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            Person contact = personByName.apply(new Name(contactName));
+            if (contact == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CONTACT, contactName));
+            }
+            addContact(contactsList, contact);
+        }
+        for (JsonAdaptedPerson legacyContact : legacyContacts) {
+            Person contact = personByName.apply(legacyContact.toModelType().getName());
+            if (contact != null) {
+                addContact(contactsList, contact);
+            }
         }
 
         if (this.id == null || this.id.isEmpty()) {
@@ -106,4 +134,11 @@ class JsonAdaptedEvent {
             return new Event(id, name, parsedDate, location, description, modelTags, contactsList);
         }
     }
+
+    private static void addContact(UniquePersonList contactsList, Person contact) throws IllegalValueException {
+        if (contactsList.contains(contact)) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_CONTACT, contact.getName()));
+        }
+        contactsList.add(contact);
+    }
 }
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+
+/**
+ * Jackson-friendly version of one address book journal entry.
+ * An entry records how the persons, relationships and events lists changed between two saves, as at most one
+ * {@link Splice} per list. A list without a splice did not change.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_SPLICE = "Journal entry does not fit the %s list.";
+
+    private final Splice<JsonAdaptedPerson> persons;
+    private final Splice<JsonAdaptedRelationship> relationships;
+    private final Splice<JsonAdaptedEvent> events;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given list changes, any of which may be null.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(
+            @JsonProperty("persons") Splice<JsonAdaptedPerson> persons,
+            @JsonProperty("relationships") Splice<JsonAdaptedRelationship> relationships,
+            @JsonProperty("events") Splice<JsonAdaptedEvent> events) {
+        this.persons = persons;
+        this.relationships = relationships;
+        this.events = events;
+    }
+
+    /**
+     * Returns the entry that turns the {@code before} lists into the {@code after} lists,
+     * or null if the lists are the same.
+     */
+    public static JsonAdaptedJournalEntry of(List<Person> personsBefore, List<Person> personsAfter,
+            List<Relationship> relationshipsBefore, List<Relationship> relationshipsAfter,
+            List<Event> eventsBefore, List<Event> eventsAfter) {
+        // Persons and relationships are replaced on every edit, and their equals ignores some fields such as socials,
+        // so they are only unchanged if they are the same instances. Events are changed in place, and are compared
+        // with copies of them as they were saved.
+        Splice<JsonAdaptedPerson> persons = Splice.of(personsBefore, personsAfter, (before, after) -> before == after,
+                JsonAdaptedPerson::new);
+        Splice<JsonAdaptedRelationship> relationships = Splice.of(relationshipsBefore, relationshipsAfter,
+                (before, after) -> before == after, JsonAdaptedRelationship::new);
+        Splice<JsonAdaptedEvent> events = Splice.of(eventsBefore, eventsAfter, Event::equals,
+                JsonAdaptedEvent::new);
+        if (persons == null && relationships == null && events == null) {
+            return null;
+        }
+        return new JsonAdaptedJournalEntry(persons, relationships, events);
+    }
+
+    /**
+     * Applies this entry to the given lists.
+     *
+     * @throws IllegalValueException if the entry does not fit the lists or holds invalid values.
+     *     The lists are left unchanged in that case.
+     */
+    public void applyTo(List<Person> personList, List<Relationship> relationshipList, List<Event> eventList)
+            throws IllegalValueException {
+        List<Person> addedPersons = new ArrayList<>();
+        List<Relationship> addedRelationships = new ArrayList<>();
+        List<Event> addedEvents = new ArrayList<>();
+        if (persons != null) {
+            persons.checkFits(personList, "persons");
+            for (JsonAdaptedPerson person : persons.added) {
+                addedPersons.add(person.toModelType());
+            }
+        }
+        if (relationships != null) {
+            relationships.checkFits(relationshipList, "relationships");
+            for (JsonAdaptedRelationship relationship : relationships.added) {
+                addedRelationships.add(relationship.toModelType());
+            }
+        }
+        if (events != null) {
+            events.checkFits(eventList, "events");
+            // Event contacts refer to the persons as they are after this entry
+            List<Person> personsAfter = new ArrayList<>(personList);
+            if (persons != null) {
+                persons.replace(personsAfter, addedPersons);
+            }
+            Map<Name, Person> personsByName = new HashMap<>();
+            for (Person person : personsAfter) {
+                personsByName.put(person.getName(), person);
+            }
+            for (JsonAdaptedEvent event : events.added) {
+                addedEvents.add(event.toModelType(personsByName::get));
+            }
+        }
+
+        if (persons != null) {
+            persons.replace(personList, addedPersons);
+        }
+        if (relationships != null) {
+            relationships.replace(relationshipList, addedRelationships);
+        }
+        if (events != null) {
+            events.replace(eventList, addedEvents);
+        }
+    }
+
+    /**
+     * Jackson-friendly record of one contiguous change to a list: {@code removed} elements starting at
+     * {@code index} were replaced by {@code added}.
+     */
+    static class Splice<T> {
+        private final int index;
+        private final int removed;
+        private final List<T> added = new ArrayList<>();
+
+        /**
+         * Constructs a {@code Splice} with the given details.
+         */
+        @JsonCreator
+        public Splice(@JsonProperty("index") int index, @JsonProperty("removed") int removed,
+                @JsonProperty("added") List<T> added) {
+            this.index = index;
+            this.removed = removed;
+            if (added != null) {
+                this.added.addAll(added);
+            }
+        }
+
+        /**
+         * Returns the splice that turns {@code before} into {@code after}, or null if they are the same.
+         * Only the elements between the longest common prefix and the longest common suffix are recorded, where two
+         * elements are common if {@code isUnchanged} holds for them.
+         */
+        static <M, A> Splice<A> of(List<M> before, List<M> after, BiPredicate<M, M> isUnchanged,
+                Function<M, A> adapter) {
+            int commonLength = Math.min(before.size(), after.size());
+            int prefix = 0;
+            while (prefix < commonLength && isUnchanged.test(before.get(prefix), after.get(prefix))) {
+                prefix++;
+            }
+            if (prefix == before.size() && prefix == after.size()) {
+                return null;
+            }
+
+            int suffix = 0;
+            while (suffix < commonLength - prefix
+                    && isUnchanged.test(before.get(before.size() - 1 - suffix), after.get(after.size() - 1 - suffix))) {
+                suffix++;
+            }
+
+            List<A> added = after.subList(prefix, after.size() - suffix).stream().map(adapter).toList();
+            return new Splice<>(prefix, before.size() - prefix - suffix, added);
+        }
+
+        private void checkFits(List<?> list, String listName) throws IllegalValueException {
+            if (index < 0 || removed < 0 || index + removed > list.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SPLICE, listName));
+            }
+        }
+
+        private <M> void replace(List<M> list, List<M> replacement) {
+            List<M> replaced = list.subList(index, index + removed);
+            replaced.clear();
+            replaced.addAll(replacement);
+        }
+    }
+}
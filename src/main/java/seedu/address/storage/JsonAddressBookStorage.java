@@ -3,28 +3,62 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.relationship.Relationship;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * The file is read and written as a stream: persons, relationships and events are converted one at a time
+ * between the file and the model, so the whole file is never held in memory as a string or a JSON tree.
+ * Events are only converted after all persons are read, as they refer to their contacts by name.
+ * The file format is the same as that of {@link JsonSerializableAddressBook}.
+ * Saves replace the file atomically, so a save that is cut short leaves the previous contents in place.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book file does not contain a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Address book field %s is not a list.";
+    public static final String MESSAGE_NULL_ELEMENT = "Address book field %s contains an empty entry.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int backupGenerations;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that keeps the contents of the last {@code backupGenerations}
+     * saves of a file as backups next to it.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupGenerations) {
         this.filePath = filePath;
+        this.backupGenerations = backupGenerations;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,17 +79,95 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readAddressBook(parser));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting each person and relationship as it is read.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                forEachElement(parser, JsonAdaptedPerson.class, person -> persons.add(person.toModelType()));
+                break;
+            case "relationships":
+                forEachElement(parser, JsonAdaptedRelationship.class, jsonRelationship -> {
+                    Relationship relationship = jsonRelationship.toModelType();
+                    if (addressBook.hasRelationship(relationship)) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RELATIONSHIP);
+                    }
+                    addressBook.addRelationship(relationship);
+                });
+                break;
+            case "events":
+                forEachElement(parser, JsonAdaptedEvent.class, events::add);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        // Load persons in bulk, which checks for duplicates in a single pass
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                    DuplicatePersonException.joinNames(dpe.getDuplicateNames())));
+        }
+
+        // Events refer to their contacts by name, so they are converted once all persons are loaded
+        for (JsonAdaptedEvent jsonEvent : events) {
+            Event event = jsonEvent.toModelType(addressBook::getPersonByName);
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+            }
+            addressBook.addEvent(event);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Binds each element of the JSON array at the current token of {@code parser} to {@code elementType} and
+     * passes it to {@code consumer} before reading the next one. A JSON null is read as an empty array.
+     */
+    private static <T> void forEachElement(JsonParser parser, Class<T> elementType, ElementConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        String fieldName = parser.getCurrentName();
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T element = parser.readValueAs(elementType);
+            if (element == null) {
+                throw new IllegalValueException(String.format(MESSAGE_NULL_ELEMENT, fieldName));
+            }
+            consumer.accept(element);
         }
     }
 
@@ -73,8 +185,37 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, backupGenerations, out -> writeAddressBook(addressBook, out));
+    }
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("relationships");
+            for (Relationship relationship : addressBook.getRelationshipList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedRelationship(relationship));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("events");
+            for (Event event : addressBook.getEventList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedEvent(event));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Represents a function that takes in one element read from a JSON array.
+     */
+    @FunctionalInterface
+    private interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
     }
 
 }
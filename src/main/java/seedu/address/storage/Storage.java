@@ -29,4 +29,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Finishes writing any address book saves that are still pending and releases background resources.
+     *
+     * @throws IOException if a pending save could not be written.
+     */
+    void close() throws IOException;
+
 }
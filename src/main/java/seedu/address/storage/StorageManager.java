@@ -2,17 +2,32 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * When created with a positive save delay, address book saves are written behind: each save takes a snapshot of
+ * the lists of the address book and hands it to a single background writer thread, which builds an address book
+ * from it and writes it after the delay.
+ * Saves requested before the pending snapshot is written replace it, so a burst of changes is written once.
+ * A failed background write is reported by the next call to {@link #saveAddressBook} or {@link #close()}.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +35,37 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService writer;
+
+    // The fields below are guarded by this StorageManager's lock.
+    private Snapshot pendingSnapshot;
+    private Path pendingFilePath;
+    private IOException backgroundWriteFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address book saves are written synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address book saves are written in the background at most {@code saveDelayMillis} milliseconds after they
+     * are requested, or synchronously if {@code saveDelayMillis} is not positive.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayMillis) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.writer = saveDelayMillis > 0 ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -68,10 +108,120 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves the given address book to {@code filePath}.
+     * In write-behind mode the save is only scheduled, and the exception thrown (if any) is from an earlier
+     * background write that failed.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Snapshot snapshot = new Snapshot(addressBook);
+        IOException earlierFailure;
+        synchronized (this) {
+            boolean isWriteScheduled = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            pendingFilePath = filePath;
+            if (!isWriteScheduled) {
+                writer.schedule(this::writePendingAddressBook, saveDelayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                logger.fine("Merged address book save into the pending write to: " + filePath);
+            }
+            earlierFailure = backgroundWriteFailure;
+            backgroundWriteFailure = null;
+        }
+
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
     }
 
+    /**
+     * Writes any pending address book save, waits for it to finish and stops the background writer.
+     *
+     * @throws IOException if the last background write failed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.submit(this::writePendingAddressBook).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing pending data to file", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to write pending data to file", e.getCause());
+        } finally {
+            writer.shutdown();
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = backgroundWriteFailure;
+            backgroundWriteFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any. Runs on the background writer thread.
+     */
+    private void writePendingAddressBook() {
+        Snapshot snapshot;
+        Path filePath;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            filePath = pendingFilePath;
+            pendingSnapshot = null;
+            pendingFilePath = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(snapshot.toAddressBook(), filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to write to data file " + filePath + ": " + e.getMessage());
+            synchronized (this) {
+                backgroundWriteFailure = e;
+            }
+        }
+    }
+
+    /**
+     * The lists of an address book as they were when a save was requested, which later changes to the address book
+     * do not affect. Persons and relationships are immutable and are shared; events are copied as their contacts can
+     * change. Taking a snapshot only copies the lists, and the address book is built from it on the writer thread.
+     */
+    private static class Snapshot {
+        private final List<Person> persons;
+        private final List<Relationship> relationships;
+        private final List<Event> events;
+
+        private Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = List.copyOf(addressBook.getPersonList());
+            relationships = List.copyOf(addressBook.getRelationshipList());
+            events = addressBook.getEventList().stream().map(Event::copy).toList();
+        }
+
+        private ReadOnlyAddressBook toAddressBook() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setRelationships(relationships);
+            addressBook.setEvents(events);
+            return addressBook;
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.address.ui;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.scene.control.ListCell;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Refreshes the cells of a {@code ListView} that show some changed items, instead of every cell of the list.
+ *
+ * Items are marked as changed by their keys, and the cells showing them are refreshed together once the current
+ * event, such as the execution of a command, has been handled. However many items a command changes, the cells are
+ * only gone through once. The number of cells refreshed is counted, and logged for every refresh.
+ *
+ * @param <K> The type of the keys of the items.
+ * @param <C> The type of the cells.
+ */
+class CellRefresher<K, C extends ListCell<?>> {
+    private final Logger logger = LogsCenter.getLogger(CellRefresher.class);
+
+    // The list view drops cells it no longer needs, which must not be kept alive here
+    private final Set<C> cells = Collections.newSetFromMap(new WeakHashMap<>());
+    private final Function<C, K> keyOfCell;
+    private final Consumer<C> refreshCell;
+    private final Set<K> changedKeys = new HashSet<>();
+    private boolean isRefreshScheduled;
+    private long refreshedCellCount;
+
+    /**
+     * Creates a refresher that refreshes a cell with {@code refreshCell} if the key {@code keyOfCell} gives for it has
+     * been marked as changed. {@code keyOfCell} must return null for an empty cell.
+     */
+    CellRefresher(Function<C, K> keyOfCell, Consumer<C> refreshCell) {
+        this.keyOfCell = keyOfCell;
+        this.refreshCell = refreshCell;
+    }
+
+    /**
+     * Returns {@code cell} after adding it to the cells to refresh, for use in a cell factory.
+     */
+    C register(C cell) {
+        cells.add(cell);
+        return cell;
+    }
+
+    /**
+     * Marks the items with {@code keys} as changed, so that the cells showing them are refreshed once the current
+     * event has been handled.
+     */
+    void markChanged(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        changedKeys.addAll(keys);
+        if (!isRefreshScheduled) {
+            isRefreshScheduled = true;
+            Platform.runLater(this::refreshChangedCells);
+        }
+    }
+
+    /**
+     * Returns the number of cells refreshed so far.
+     */
+    long getRefreshedCellCount() {
+        return refreshedCellCount;
+    }
+
+    private void refreshChangedCells() {
+        int refreshed = 0;
+        for (C cell : cells) {
+            K key = keyOfCell.apply(cell);
+            if (key != null && changedKeys.contains(key)) {
+                refreshCell.accept(cell);
+                refreshed++;
+            }
+        }
+        logger.fine(String.format("Refreshed %d of %d cells for %d changed items", refreshed, cells.size(),
+                changedKeys.size()));
+
+        refreshedCellCount += refreshed;
+        changedKeys.clear();
+        isRefreshScheduled = false;
+    }
+}
@@ -1,6 +1,6 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -8,18 +8,20 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of an {@code Event}.
+ * A card can be given another event to show, so that a list cell only has to load one card.
  */
 public class EventCard extends UiPart<Region> {
 
     private static final String FXML = "EventCard.fxml";
 
-    public final Event event;
-    private final AddressBook addressBook;
+    private final ReadOnlyAddressBook addressBook;
+    private Event event;
 
     @FXML
     private HBox cardPane;
@@ -42,14 +44,38 @@ public class EventCard extends UiPart<Region> {
     @FXML
     private VBox contactsPane;
 
+    private final ExpandableSection<Person, Label> contactsSection;
+
     /**
      * Creates a {@code EventCard} with the given {@code Event}, displayed index, and AddressBook.
      */
-    public EventCard(Event event, int displayedIndex, AddressBook addressBook) {
+    public EventCard(Event event, int displayedIndex, ReadOnlyAddressBook addressBook) {
+        this(addressBook);
+        setEvent(event, displayedIndex);
+    }
+
+    /**
+     * Creates an empty {@code EventCard}, which shows an event once {@link #setEvent} is called.
+     */
+    public EventCard(ReadOnlyAddressBook addressBook) {
         super(FXML);
-        this.event = event;
         this.addressBook = addressBook;
+        contactsSection = new ExpandableSection<>(contactsPane, Label::new,
+                (label, contact) -> label.setText(getContactName(contact)));
+    }
 
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Shows {@code event} at {@code displayedIndex} in this card, in place of the event shown before.
+     * The labels already in the card are reused, and only the labels the new event has more or fewer of are created
+     * or removed. The contacts section stays expanded if the same event is shown again.
+     */
+    public void setEvent(Event event, int displayedIndex) {
+        boolean isSameEvent = event == this.event;
+        this.event = event;
         id.setText(displayedIndex + ". ");
         name.setText(event.getName());
         date.setText("Date: " + event.getDate());
@@ -58,29 +84,30 @@ public class EventCard extends UiPart<Region> {
         eventId.setText("Event ID: " + event.getId());
 
         // Populate tags
-        event.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        ReusableLabels.setTexts(tags, 0, event.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .toList(), null);
 
         // Populate contacts
-        populateContacts();
+        populateContacts(isSameEvent);
     }
 
     /**
-     * Populates the contacts pane with names of persons involved in the event.
+     * Populates the contacts pane with the number of persons involved in the event, the names of the first few of
+     * them, and the names of the rest only once the user expands the section.
+     * The current name of each contact is looked up by their ID in the address book.
      */
-    private void populateContacts() {
-        if (event.getContacts().isEmpty()) {
-            Label noContacts = new Label("No contacts");
-            contactsPane.getChildren().add(noContacts);
-            return;
-        }
+    private void populateContacts(boolean isSameEvent) {
+        List<Person> contacts = event.getContacts();
+        contactsSection.getHeader().setText(contacts.isEmpty()
+                ? "No contacts"
+                : String.format("Contacts (%d):", contacts.size()));
+        contactsSection.setItems(contacts, isSameEvent);
+    }
 
-        contactsPane.getChildren().add(new Label("Contacts:"));
-        event.getContacts().forEach(person -> {
-            String contactName = person.getName().fullName;
-            Label contactLabel = new Label(contactName);
-            contactsPane.getChildren().add(contactLabel);
-        });
+    private String getContactName(Person contact) {
+        String contactName = addressBook.getPersonNameById(contact.getId());
+        return contactName == null ? contact.getName().fullName : contactName;
     }
 }
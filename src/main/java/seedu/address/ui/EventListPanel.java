@@ -19,6 +19,8 @@ public class EventListPanel extends UiPart<Region> {
     private ListView<Event> eventListView;
 
     private final ReadOnlyAddressBook addressBook;
+    private final CellRefresher<String, EventListViewCell> cellRefresher =
+            new CellRefresher<>(cell -> cell.isEmpty() ? null : cell.getItem().getId(), EventListViewCell::refresh);
 
     /**
      * Creates an {@code EventListPanel} with the given {@code ObservableList} and {@code ReadOnlyAddressBook}.
@@ -27,22 +29,33 @@ public class EventListPanel extends UiPart<Region> {
         super(FXML);
         this.addressBook = addressBook;
         eventListView.setItems(eventList);
-        eventListView.setCellFactory(listView -> new EventListViewCell());
+        eventListView.setCellFactory(listView -> cellRefresher.register(new EventListViewCell()));
 
-        // Add a listener to refresh the list when items change
+        // Events are changed in place and then replaced with themselves, which the list view does not show by itself.
+        // Added and removed events are shown by the list view, which also renumbers the cells after them.
         eventList.addListener((ListChangeListener<Event>) c -> {
             while (c.next()) {
-                if (c.wasAdded() || c.wasRemoved()) {
-                    eventListView.refresh();
+                if (c.wasReplaced()) {
+                    cellRefresher.markChanged(c.getAddedSubList().stream().map(Event::getId).toList());
                 }
             }
         });
     }
 
+    /**
+     * Returns the number of event cards refreshed so far because their events changed in place.
+     */
+    public long getRefreshedCellCount() {
+        return cellRefresher.getRefreshedCellCount();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of an {@code Event} using an {@code EventCard}.
+     * The cell loads its card once, and gives it the event to show on every update.
      */
     class EventListViewCell extends ListCell<Event> {
+        private EventCard card;
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -51,9 +64,23 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1,
-                        (seedu.address.model.AddressBook) addressBook).getRoot());
+                showEvent(event);
+            }
+        }
+
+        /**
+         * Shows the event of this cell again, with its current details.
+         */
+        void refresh() {
+            showEvent(getItem());
+        }
+
+        private void showEvent(Event event) {
+            if (card == null) {
+                card = new EventCard(addressBook);
             }
+            card.setEvent(event, getIndex() + 1);
+            setGraphic(card.getRoot());
         }
     }
 }
@@ -0,0 +1,127 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Pane;
+
+/**
+ * A section of a card that lists items, such as the relationships of a person or the contacts of an event.
+ *
+ * Only a header and the first {@code PREVIEW_SIZE} items are shown, with a link to show all of them. The rest of
+ * the items are only shown once the user follows the link, in a list view of a fixed height. As a list view only
+ * creates the rows it can show, the number of nodes in a card stays the same however many items it has.
+ *
+ * @param <T> The type of the items.
+ * @param <R> The type of the nodes showing the items.
+ */
+class ExpandableSection<T, R extends Node> {
+    static final int PREVIEW_SIZE = 3;
+    private static final double EXPANDED_LIST_HEIGHT = 200;
+
+    private final Pane pane;
+    private final Label header = new Label();
+    private final Hyperlink toggle = new Hyperlink();
+    private final Supplier<R> createRow;
+    private final BiConsumer<R, T> showItem;
+    private final List<R> previewRows = new ArrayList<>();
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private ListView<T> expandedList;
+    private boolean isExpanded;
+
+    /**
+     * Creates a section in {@code pane}, which shows an item in a row created by {@code createRow} by calling
+     * {@code showItem} with them. A row is given other items to show, so it must not keep the item it shows.
+     */
+    ExpandableSection(Pane pane, Supplier<R> createRow, BiConsumer<R, T> showItem) {
+        this.pane = pane;
+        this.createRow = createRow;
+        this.showItem = showItem;
+        toggle.getStyleClass().add("section-toggle");
+        toggle.setOnAction(event -> {
+            isExpanded = !isExpanded;
+            render();
+        });
+        pane.getChildren().add(header);
+    }
+
+    /**
+     * Returns the header of this section, which is shown above the items.
+     */
+    Label getHeader() {
+        return header;
+    }
+
+    /**
+     * Shows {@code items} in this section in place of the items shown before. If the items are of another owner
+     * than before, such as another person, the section is collapsed if it was expanded.
+     */
+    void setItems(List<T> items, boolean isSameOwner) {
+        this.items.setAll(items);
+        isExpanded = isSameOwner && isExpanded && items.size() > PREVIEW_SIZE;
+        render();
+    }
+
+    private void render() {
+        List<Node> children = new ArrayList<>();
+        children.add(header);
+        if (isExpanded) {
+            children.add(getExpandedList());
+            toggle.setText("Show fewer");
+        } else {
+            int previewSize = Math.min(items.size(), PREVIEW_SIZE);
+            while (previewRows.size() < previewSize) {
+                previewRows.add(createRow.get());
+            }
+            for (int i = 0; i < previewSize; i++) {
+                showItem.accept(previewRows.get(i), items.get(i));
+                children.add(previewRows.get(i));
+            }
+            toggle.setText(String.format("Show all %d", items.size()));
+        }
+        if (items.size() > PREVIEW_SIZE) {
+            children.add(toggle);
+        }
+        pane.getChildren().setAll(children);
+    }
+
+    /**
+     * Returns the list view showing all the items, which is only created the first time the section is expanded.
+     */
+    private ListView<T> getExpandedList() {
+        if (expandedList == null) {
+            expandedList = new ListView<>(items);
+            expandedList.setPrefHeight(EXPANDED_LIST_HEIGHT);
+            expandedList.setCellFactory(listView -> new ItemCell());
+        }
+        return expandedList;
+    }
+
+    /**
+     * Shows an item in a row that is created once for the cell.
+     */
+    private class ItemCell extends ListCell<T> {
+        private final R row = createRow.get();
+
+        @Override
+        protected void updateItem(T item, boolean empty) {
+            super.updateItem(item, empty);
+
+            if (empty || item == null) {
+                setGraphic(null);
+                return;
+            }
+            showItem.accept(row, item);
+            setGraphic(row);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
@@ -24,6 +25,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading your contacts and events...";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -55,17 +57,17 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code GuiSettings}.
+     * The {@code Logic} is given once the data has been loaded, with {@link #fillInnerParts}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(guiSettings);
         setAccelerators();
         helpWindow = new HelpWindow();
     }
@@ -110,18 +112,32 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up the placeholders of this window to show that the data is being loaded.
+     * The command box is only added once the data has been loaded, so that no command is run before then.
      */
-    void fillInnerParts() {
+    void fillLoadingParts() {
+        personListPanelPlaceholder.getChildren().setAll(new ProgressIndicator());
+        eventListPanelPlaceholder.getChildren().setAll(new ProgressIndicator());
+
+        resultDisplay = new ResultDisplay();
+        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+    }
+
+    /**
+     * Fills up all the placeholders of this window with the data of {@code logic}, in place of the loading state.
+     */
+    void fillInnerParts(Logic logic) {
+        this.logic = logic;
+
         personListPanel = new PersonListPanel(logic.getSortedFilteredPersonList(), logic.getFilteredRelationshipList(),
-                logic.getAddressBook());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+                logic::getRelationshipsOf, logic.getAddressBook());
+        personListPanelPlaceholder.getChildren().setAll(personListPanel.getRoot());
 
         eventListPanel = new EventListPanel(logic.getFilteredEventList(), logic.getAddressBook());
-        eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
+        eventListPanelPlaceholder.getChildren().setAll(eventListPanel.getRoot());
 
-        resultDisplay = new ResultDisplay();
-        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        resultDisplay.setFeedbackToUser("");
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -166,7 +182,10 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(
                 primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        // The settings are saved with the data, so they cannot be kept if the window is closed while loading
+        if (logic != null) {
+            logic.setGuiSettings(guiSettings);
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
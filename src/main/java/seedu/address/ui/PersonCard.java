@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -10,13 +9,14 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Social;
 import seedu.address.model.relationship.Relationship;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be given another person to show, so that a list cell only has to load one card.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -30,8 +30,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-    private final AddressBook addressBook;
+    private final ReadOnlyAddressBook addressBook;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -54,73 +54,111 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private VBox relationshipsPane;
 
+    private final ExpandableSection<Relationship, VBox> relationshipsSection;
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
-    public PersonCard(Person person, int displayedIndex, List<Relationship> relationships, AddressBook addressBook) {
+    public PersonCard(Person person, int displayedIndex, List<Relationship> relationships,
+            ReadOnlyAddressBook addressBook) {
+        this(addressBook);
+        setPerson(person, displayedIndex, relationships);
+    }
+
+    /**
+     * Creates an empty {@code PersonCard}, which shows a person once {@link #setPerson} is called.
+     */
+    public PersonCard(ReadOnlyAddressBook addressBook) {
         super(FXML);
-        this.person = person;
         this.addressBook = addressBook;
-        String socialsDisplay = person.getSocials().stream().map(Social::toString).collect(Collectors.joining(","));
+        relationshipsSection = new ExpandableSection<>(relationshipsPane, PersonCard::createRelationshipRow,
+                this::showRelationship);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} with {@code relationships} in this card, in place of the person
+     * shown before. The labels already in the card are reused, and only the labels the new person has more or fewer
+     * of are created or removed. The relationships section stays expanded if the same person is shown again.
+     */
+    public void setPerson(Person person, int displayedIndex, List<Relationship> relationships) {
         id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
-        phone.setText("Phone: " + person.getPhone().value);
-        address.setText("Address: " + person.getAddress().value);
-        email.setText("Email: " + person.getEmail().value);
-        socials.setText("Socials: " + socialsDisplay);
-        contactId.setText("ID: " + person.getId());
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        boolean isSamePerson = person == this.person;
+        if (!isSamePerson) {
+            this.person = person;
+            String socialsDisplay = person.getSocials().stream().map(Social::toString)
+                    .collect(Collectors.joining(","));
+            name.setText(person.getName().fullName);
+            phone.setText("Phone: " + person.getPhone().value);
+            address.setText("Address: " + person.getAddress().value);
+            email.setText("Email: " + person.getEmail().value);
+            socials.setText("Socials: " + socialsDisplay);
+            contactId.setText("ID: " + person.getId());
+            ReusableLabels.setTexts(tags, 0, person.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .sorted()
+                    .toList(), null);
+        }
 
         // Display relationships for this person
-        displayRelationships(relationships);
+        displayRelationships(relationships, isSamePerson);
     }
 
     /**
-     * Displays the relationships associated with this person
+     * Displays the relationships associated with this person: their number, the first few of them, and the rest only
+     * once the user expands the section.
      */
-    private void displayRelationships(List<Relationship> relationships) {
+    private void displayRelationships(List<Relationship> relationships, boolean isSamePerson) {
+        Label header = relationshipsSection.getHeader();
         if (relationships == null || relationships.isEmpty()) {
-            Label noRelationshipsLabel = new Label("No relationships");
-            noRelationshipsLabel.getStyleClass().add("relationship-label");
-            relationshipsPane.getChildren().add(noRelationshipsLabel);
+            header.setText("No relationships");
+            header.getStyleClass().setAll("label", "relationship-label");
+            relationshipsSection.setItems(List.of(), isSamePerson);
             return;
         }
 
-        relationshipsPane.getChildren().add(new Label("Relationships:"));
-        for (Relationship relationship : relationships) {
-            HBox relationshipBox = new HBox();
-            relationshipBox.setSpacing(5);
-
-            // Get the relationship name from this person's perspective
-            String relationshipName = relationship.getNameFromPerspective(person.getId());
-            Label relationshipLabel = new Label(relationshipName);
-            relationshipLabel.getStyleClass().add("relationship-name");
-
-            // Get the other person's details
-            String otherId = person.getId().equals(relationship.getFirstUserId())
-                    ? relationship.getSecondUserId() : relationship.getFirstUserId();
-            String otherPersonName = getOtherPersonName(otherId);
-            Label otherPersonLabel = new Label(otherPersonName);
-            otherPersonLabel.getStyleClass().add("relationship-person");
-
-            relationshipBox.getChildren().addAll(relationshipLabel, otherPersonLabel);
-            relationshipsPane.getChildren().add(relationshipBox);
-
-            // Add tags for this relationship if any
-            if (!relationship.getTags().isEmpty()) {
-                FlowPane relationshipTags = new FlowPane();
-                relationshipTags.setHgap(5);
-                relationshipTags.setVgap(3);
-                relationship.getTags().forEach(tag -> {
-                    Label tagLabel = new Label(tag.tagName);
-                    tagLabel.getStyleClass().add("relationship-tag");
-                    relationshipTags.getChildren().add(tagLabel);
-                });
-                relationshipsPane.getChildren().add(relationshipTags);
-            }
-        }
+        header.setText(String.format("Relationships (%d):", relationships.size()));
+        header.getStyleClass().setAll("label");
+        relationshipsSection.setItems(relationships, isSamePerson);
+    }
+
+    /**
+     * Creates a row for a relationship: the relationship and the other person, and below them its tags.
+     */
+    private static VBox createRelationshipRow() {
+        Label relationshipLabel = new Label();
+        relationshipLabel.getStyleClass().add("relationship-name");
+        Label otherPersonLabel = new Label();
+        otherPersonLabel.getStyleClass().add("relationship-person");
+        HBox relationshipBox = new HBox(5, relationshipLabel, otherPersonLabel);
+
+        FlowPane relationshipTags = new FlowPane();
+        relationshipTags.setHgap(5);
+        relationshipTags.setVgap(3);
+        return new VBox(2, relationshipBox, relationshipTags);
+    }
+
+    private void showRelationship(VBox row, Relationship relationship) {
+        HBox relationshipBox = (HBox) row.getChildren().get(0);
+
+        // Get the relationship name from this person's perspective
+        String relationshipName = relationship.getNameFromPerspective(person.getId());
+        ((Label) relationshipBox.getChildren().get(0)).setText(relationshipName);
+
+        // Get the other person's details
+        String otherId = person.getId().equals(relationship.getFirstUserId())
+                ? relationship.getSecondUserId() : relationship.getFirstUserId();
+        ((Label) relationshipBox.getChildren().get(1)).setText(getOtherPersonName(otherId));
+
+        // Show the tags of this relationship, if any
+        FlowPane relationshipTags = (FlowPane) row.getChildren().get(1);
+        ReusableLabels.setTexts(relationshipTags, 0,
+                relationship.getTags().stream().map(tag -> tag.tagName).toList(), "relationship-tag");
+        relationshipTags.setVisible(!relationship.getTags().isEmpty());
+        relationshipTags.setManaged(!relationship.getTags().isEmpty());
     }
 
     /**
@@ -130,11 +168,7 @@ public class PersonCard extends UiPart<Region> {
      * @return The name of the other person, or "Unknown" if the person is not found.
      */
     private String getOtherPersonName(String otherId) {
-        // Iterate through the person list to find the person with the given ID
-        return addressBook.getPersonList().stream()
-                .filter(p -> p.getId().equals(otherId))
-                .findFirst()
-                .map(p -> p.getName().fullName)
-                .orElse("Unknown");
+        String otherPersonName = addressBook.getPersonNameById(otherId);
+        return otherPersonName == null ? "Unknown" : otherPersonName;
     }
 }
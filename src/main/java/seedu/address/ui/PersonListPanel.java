@@ -4,7 +4,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -27,20 +26,24 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
-    private final ObservableList<Relationship> relationships;
+    private final RelationshipLookup relationshipLookup;
     private final ReadOnlyAddressBook addressBook;
+    private final CellRefresher<String, PersonListViewCell> cellRefresher =
+            new CellRefresher<>(cell -> cell.isEmpty() ? null : cell.getItem().getId(), PersonListViewCell::refresh);
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Each card gets its person's relationships from {@code relationshipLookup}; {@code relationships} is only
+     * observed to know when cards need refreshing.
      */
     public PersonListPanel(ObservableList<Person> personList, ObservableList<Relationship> relationships,
-                           ReadOnlyAddressBook addressBook) {
+                           RelationshipLookup relationshipLookup, ReadOnlyAddressBook addressBook) {
         super(FXML);
-        this.relationships = relationships;
+        this.relationshipLookup = relationshipLookup;
         this.addressBook = addressBook;
 
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.setCellFactory(listView -> cellRefresher.register(new PersonListViewCell()));
 
         // Listener for relationship changes
         relationships.addListener((ListChangeListener<Relationship>) change -> {
@@ -50,12 +53,31 @@ public class PersonListPanel extends UiPart<Region> {
                 }
             }
         });
+
+        // Cards show the names of the persons their persons are related to, which change when those are renamed
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    refreshRelatedPersonCards(change.getRemoved(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the number of person cards refreshed so far because the relationships of their persons changed.
+     */
+    public long getRefreshedCellCount() {
+        return cellRefresher.getRefreshedCellCount();
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell loads its card once, and gives it the person to show on every update.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -64,19 +86,32 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                // Get relationships for this person
-                List<Relationship> personRelationships = relationships.stream()
-                        .filter(r -> r.involvesUser(person.getId()))
-                        .collect(Collectors.toList());
+                showPerson(person);
+            }
+        }
+
+        /**
+         * Shows the person of this cell again, with their current relationships.
+         */
+        void refresh() {
+            showPerson(getItem());
+        }
+
+        private void showPerson(Person person) {
+            List<Relationship> personRelationships = relationshipLookup.getRelationshipsOf(person.getId());
 
-                setGraphic(new PersonCard(person, getIndex() + 1, personRelationships,
-                        (seedu.address.model.AddressBook) addressBook).getRoot());
+            if (card == null) {
+                card = new PersonCard(addressBook);
             }
+            card.setPerson(person, getIndex() + 1, personRelationships);
+            setGraphic(card.getRoot());
         }
     }
 
     /**
      * Refreshes the person cards that are affected by relationship changes.
+     * Only the cards of the persons involved are refreshed, together with those of any other relationship changes made
+     * by the same command.
      *
      * @param added List of added relationships.
      * @param removed List of removed relationships.
@@ -96,13 +131,41 @@ public class PersonListPanel extends UiPart<Region> {
             affectedPersonIds.add(relationship.getSecondUserId());
         });
 
-        // Refresh the affected person cards
-        for (int i = 0; i < personListView.getItems().size(); i++) {
-            Person person = personListView.getItems().get(i);
-            if (affectedPersonIds.contains(person.getId())) {
-                personListView.refresh();
-                break;
-            } // exit after refreshing the list once
+        cellRefresher.markChanged(affectedPersonIds);
+    }
+
+    /**
+     * Refreshes the cards of the persons related to any person in {@code replaced} whose name or ID differs from that
+     * of the person replacing them in {@code replacements}.
+     */
+    private void refreshRelatedPersonCards(List<? extends Person> replaced, List<? extends Person> replacements) {
+        Set<String> relatedPersonIds = new HashSet<>();
+        for (int i = 0; i < Math.min(replaced.size(), replacements.size()); i++) {
+            Person oldPerson = replaced.get(i);
+            Person newPerson = replacements.get(i);
+            if (oldPerson.getName().equals(newPerson.getName()) && oldPerson.getId().equals(newPerson.getId())) {
+                continue;
+            }
+            for (String id : List.of(oldPerson.getId(), newPerson.getId())) {
+                for (Relationship relationship : relationshipLookup.getRelationshipsOf(id)) {
+                    relatedPersonIds.add(relationship.getFirstUserId());
+                    relatedPersonIds.add(relationship.getSecondUserId());
+                }
+            }
         }
+        cellRefresher.markChanged(relatedPersonIds);
+    }
+
+    /**
+     * Represents a function that returns the relationships of a person.
+     */
+    @FunctionalInterface
+    public interface RelationshipLookup {
+        /**
+         * Returns the relationships that involve the user with the given ID.
+         *
+         * @see seedu.address.logic.Logic#getRelationshipsOf(String)
+         */
+        List<Relationship> getRelationshipsOf(String userId);
     }
 }
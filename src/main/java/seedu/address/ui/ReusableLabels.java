@@ -0,0 +1,39 @@
+package seedu.address.ui;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+/**
+ * Shows a list of texts as labels in a pane, reusing the labels already in the pane, so that a card showing
+ * another item only creates or removes the labels it has more or fewer of.
+ */
+class ReusableLabels {
+
+    /**
+     * Makes the children of {@code pane} from {@code firstIndex} onwards labels showing {@code texts}, in order.
+     * Labels created for this are given {@code styleClass}, unless it is null.
+     */
+    static void setTexts(Pane pane, int firstIndex, List<String> texts, String styleClass) {
+        ObservableList<Node> children = pane.getChildren();
+        for (int i = 0; i < texts.size(); i++) {
+            int childIndex = firstIndex + i;
+            if (childIndex < children.size()) {
+                ((Label) children.get(childIndex)).setText(texts.get(i));
+                continue;
+            }
+            Label label = new Label(texts.get(i));
+            if (styleClass != null) {
+                label.getStyleClass().add(styleClass);
+            }
+            children.add(label);
+        }
+        int end = firstIndex + texts.size();
+        if (children.size() > end) {
+            children.remove(end, children.size());
+        }
+    }
+}
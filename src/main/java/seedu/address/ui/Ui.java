@@ -1,13 +1,23 @@
 package seedu.address.ui;
 
 import javafx.stage.Stage;
+import seedu.address.logic.Logic;
 
 /**
  * API of UI component
  */
 public interface Ui {
 
-    /** Starts the UI (and the App). */
+    /** Starts the UI (and the App), showing that the data is being loaded. */
     void start(Stage primaryStage);
 
+    /** Shows the data of {@code logic} once it has been loaded, and lets the user enter commands. */
+    void showLoadedData(Logic logic);
+
+    /** Shows that the data could not be loaded because of {@code e}, and exits the App. */
+    void showLoadingError(Throwable e);
+
+    /** Warns the user with {@code message} that the data shown may not be the data they last saved. */
+    void showLoadingWarning(String message);
+
 }
@@ -8,6 +8,7 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -22,14 +23,15 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
-    private Logic logic;
+    private final GuiSettings guiSettings;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} whose window is shown with the given {@code GuiSettings}.
+     * The data to show is given once it has been loaded, with {@link #showLoadedData}.
      */
-    public UiManager(Logic logic) {
-        this.logic = logic;
+    public UiManager(GuiSettings guiSettings) {
+        this.guiSettings = guiSettings;
     }
 
     @Override
@@ -40,9 +42,9 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, guiSettings);
             mainWindow.show(); // This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            mainWindow.fillLoadingParts();
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +52,29 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoadedData(Logic logic) {
+        logger.info("Showing loaded data...");
+
+        try {
+            mainWindow.fillInnerParts(logic);
+        } catch (Throwable e) {
+            logger.severe(StringUtil.getDetails(e));
+            showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+        }
+    }
+
+    @Override
+    public void showLoadingError(Throwable e) {
+        showFatalErrorDialogAndShutdown("Fatal error during loading", e);
+    }
+
+    @Override
+    public void showLoadingWarning(String message) {
+        logger.warning(message);
+        showAlertDialogAndWait(AlertType.WARNING, "Data recovered", "Some of your data may be missing", message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -39,10 +39,20 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_importAndExportPaths_success() {
+        parametersStub.namedParameters.put("import", "addressbook.bin");
+        parametersStub.namedParameters.put("export", "a\0");
+        expected.setImportPath(Paths.get("addressbook.bin"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", importPath=" + appParameters.getImportPath()
+                + ", exportPath=" + appParameters.getExportPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +76,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different export path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setExportPath(Paths.get("addressbook.bin"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -1,13 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +37,79 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileCreated() throws Exception {
+        Path file = testFolder.resolve("a").resolve("b").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file.getFileName()), listFileNames(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutBackups() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeAtomically(file, 0, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file.getFileName()), listFileNames(testFolder));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchangedAndNoTempFileLeft() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 1, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(List.of(file.getFileName()), listFileNames(testFolder));
+    }
+
+    @Test
+    public void writeAtomically_generationsToKeep_oldestBackupsDropped() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int save = 1; save <= 5; save++) {
+            String content = "save " + save;
+            FileUtil.writeAtomically(file, 2, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        assertEquals("save 5", FileUtil.readFromFile(file));
+        assertEquals("save 4", FileUtil.readFromFile(FileUtil.backupPathOf(file, 1)));
+        assertEquals("save 3", FileUtil.readFromFile(FileUtil.backupPathOf(file, 2)));
+        assertFalse(Files.exists(FileUtil.backupPathOf(file, 3)));
+    }
+
+    @Test
+    public void writeAtomically_backupOfReplacedFile_keepsOldContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeAtomically(file, 1, out -> out.write("first".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(Files.exists(FileUtil.backupPathOf(file, 1)));
+
+        FileUtil.writeAtomically(file, 1, out -> out.write("second".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.backupPathOf(file, 1)));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void writeAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeAtomically(file, 1, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    private static List<Path> listFileNames(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(Path::getFileName).sorted().toList();
+        }
+    }
 }
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,115 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // Empty strings
+        assertEquals(0, StringUtil.editDistance("", "")); // Boundary case
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(3, StringUtil.editDistance("abc", ""));
+
+        // Same strings
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+
+        // Single edits
+        assertEquals(1, StringUtil.editDistance("alice", "alise")); // Substitution
+        assertEquals(1, StringUtil.editDistance("alice", "alic")); // Deletion
+        assertEquals(1, StringUtil.editDistance("alice", "allice")); // Insertion
+        assertEquals(1, StringUtil.editDistance("alice", "Alice")); // Case-sensitive
+
+        // Multiple edits, in either order of arguments
+        assertEquals(2, StringUtil.editDistance("meier", "meyr"));
+        assertEquals(2, StringUtil.editDistance("meyr", "meier"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc def 12", StringUtil.foldCase("ABc Def 12"));
+
+        // Characters that are the same ignoring case fold to the same character
+        assertEquals("strasse", StringUtil.foldCase("Stra\u017Fse"));
+    }
+
+    @Test
+    public void foldCase_turkishDefaultLocale_sameResult() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("ida", StringUtil.foldCase("IDA"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    //---------------- Tests for containsIgnoreCase and indexOfIgnoreCase --------------------------------------
+
+    @Test
+    public void containsIgnoreCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase("abc", null));
+    }
+
+    @Test
+    public void containsIgnoreCase_validInputs_correctResult() {
+        // Empty keyword or text
+        assertTrue(StringUtil.containsIgnoreCase("", ""));
+        assertTrue(StringUtil.containsIgnoreCase("abc", ""));
+        assertFalse(StringUtil.containsIgnoreCase("", "a"));
+
+        // Keyword at the start, middle or end, or across words
+        assertTrue(StringUtil.containsIgnoreCase("Alice Pauline", "ali"));
+        assertTrue(StringUtil.containsIgnoreCase("Alice Pauline", "ce pau"));
+        assertTrue(StringUtil.containsIgnoreCase("Alice Pauline", "line"));
+        assertTrue(StringUtil.containsIgnoreCase("ALICE", "alice"));
+
+        // Keyword longer than the text, or matching only partly
+        assertFalse(StringUtil.containsIgnoreCase("Ali", "alice"));
+        assertFalse(StringUtil.containsIgnoreCase("Alice Pauline", "alicep"));
+        assertFalse(StringUtil.containsIgnoreCase("aaab", "aab ")); // Boundary case at the end of the text
+    }
+
+    @Test
+    public void containsIgnoreCase_charactersEqualIgnoringCase_returnsTrue() {
+        assertTrue(StringUtil.containsIgnoreCase("Stra\u017Fse", StringUtil.foldCase("STRASSE")));
+        assertTrue(StringUtil.containsIgnoreCase("\u017Ftrasse", "str"));
+    }
+
+    @Test
+    public void containsAnyIgnoreCase_validInputs_correctResult() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsAnyIgnoreCase("abc", null));
+
+        assertFalse(StringUtil.containsAnyIgnoreCase("Alice Pauline", List.of()));
+        assertFalse(StringUtil.containsAnyIgnoreCase("Alice Pauline", List.of("bob", "meier")));
+        assertTrue(StringUtil.containsAnyIgnoreCase("Alice Pauline", List.of("bob", "pau")));
+    }
+
+    @Test
+    public void indexOfIgnoreCase_validInputs_correctResult() {
+        assertEquals(0, StringUtil.indexOfIgnoreCase("ABc abC", "abc", 0));
+        assertEquals(4, StringUtil.indexOfIgnoreCase("ABc abC", "abc", 1));
+        assertEquals(-1, StringUtil.indexOfIgnoreCase("ABc abC", "abc", 5));
+        assertEquals(2, StringUtil.indexOfIgnoreCase("aaab", "ab", -1));
+        assertEquals(7, StringUtil.indexOfIgnoreCase("ABc abC", "", 7));
+        assertEquals(-1, StringUtil.indexOfIgnoreCase("ABc abC", "", 8));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
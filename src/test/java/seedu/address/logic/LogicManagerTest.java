@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,6 +14,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -72,6 +75,47 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_modifyingCommand_savesAddressBook() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertEquals(1, logicManager.getSavesPerformed());
+        assertEquals(0, logicManager.getSavesSkipped());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(model, storage);
+
+        // storage would throw if a save was attempted
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logicManager.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(0, logicManager.getSavesPerformed());
+        assertEquals(1, logicManager.getSavesSkipped());
+        assertFalse(Files.exists(temporaryFolder.resolve("ab.json")));
+    }
+
+    @Test
+    public void execute_unchangedAfterSave_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(1, logicManager.getSavesPerformed());
+        assertEquals(1, logicManager.getSavesSkipped());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.query.QueryStatistics;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -33,6 +35,10 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different queryStatistics value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback",
+                new QueryStatistics("n/alice", 1, 1, 1, 0, 0))));
     }
 
     @Test
@@ -50,6 +56,10 @@ public class CommandResultTest {
 
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
+
+        // different query statistics -> returns different hashcode
+        assertNotEquals(commandResult.hashCode(), new CommandResult("feedback",
+                new QueryStatistics("n/alice", 1, 1, 1, 0, 0)).hashCode());
     }
 
     @Test
@@ -57,7 +67,7 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", queryStatistics=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -73,7 +73,7 @@ public class FindAddressCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         AddressContainsKeywordsAsSubstringPredicate predicate = preparePredicate(" ");
         FindAddressCommand command = new FindAddressCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
@@ -83,7 +83,7 @@ public class FindAddressCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 10);
         AddressContainsKeywordsAsSubstringPredicate predicate = preparePredicate("NUS Marina Vietnam");
         FindAddressCommand command = new FindAddressCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, TRISTAN_NGUYEN, PHUNG_KHANH_LINH, ALICE, BENSON, DANIEL,
                         ELLE, GEORGE, HOON, IDA),
@@ -95,9 +95,10 @@ public class FindAddressCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 6);
         AddressContainsKeywordsAsSubstringPredicate predicate = preparePredicate("NUS COM1");
         FindAddressCommand command = new FindAddressCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, PHUNG_KHANH_LINH, BENSON, DANIEL, ELLE, GEORGE),
+        // addresses with both keywords are listed first
+        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, PHUNG_KHANH_LINH, ELLE, GEORGE, BENSON, DANIEL),
                 model.getFilteredPersonList());
     }
 
@@ -75,7 +75,7 @@ public class FindEmailCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         EmailContainsKeywordsAsSubstringPredicate predicate = preparePredicate(" ");
         FindEmailCommand command = new FindEmailCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
@@ -85,10 +85,11 @@ public class FindEmailCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 12);
         EmailContainsKeywordsAsSubstringPredicate predicate = preparePredicate("gmail com");
         FindEmailCommand command = new FindEmailCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, TRISTAN_NGUYEN, PHUNG_KHANH_LINH, ALICE, BENSON,
-                CARL, DANIEL, ELLE, FIONA, GEORGE, HOON, IDA), model.getFilteredPersonList());
+        // emails with both keywords are listed first
+        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, FIONA, TRISTAN_NGUYEN, PHUNG_KHANH_LINH, ALICE, BENSON,
+                CARL, DANIEL, ELLE, GEORGE, HOON, IDA), model.getFilteredPersonList());
     }
 
     @Test
@@ -96,7 +97,7 @@ public class FindEmailCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         EmailContainsKeywordsAsSubstringPredicate predicate = preparePredicate("nusmail");
         FindEmailCommand command = new FindEmailCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(PHUNG_KHANH_LINH, ELLE), model.getFilteredPersonList());
     }
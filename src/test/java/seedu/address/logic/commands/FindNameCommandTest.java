@@ -24,6 +24,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameWithinEditDistancePredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindNameCommand}.
@@ -70,7 +71,7 @@ public class FindNameCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsAsSubstringPredicate predicate = preparePredicate(" ");
         FindNameCommand command = new FindNameCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
@@ -80,7 +81,7 @@ public class FindNameCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
         NameContainsKeywordsAsSubstringPredicate predicate = preparePredicate("Kurz Elle Kunz");
         FindNameCommand command = new FindNameCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA, IDA), model.getFilteredPersonList());
     }
@@ -90,7 +91,7 @@ public class FindNameCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         NameContainsKeywordsAsSubstringPredicate predicate = preparePredicate("Nguyen");
         FindNameCommand command = new FindNameCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, TRISTAN_NGUYEN), model.getFilteredPersonList());
     }
@@ -100,11 +101,33 @@ public class FindNameCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsAsSubstringPredicate predicate = preparePredicate("Phung Linh");
         FindNameCommand command = new FindNameCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(PHUNG_KHANH_LINH), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestMatchesFirst() {
+        // "Mueller" is a word of Ida's name, and "Meyr" is one typo away from a word of Elle's
+        NameWithinEditDistancePredicate predicate =
+                new NameWithinEditDistancePredicate(Arrays.asList("Meyr", "Mueller"));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindNameCommand command = new FindNameCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(IDA, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordsTooFar_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        NameWithinEditDistancePredicate predicate = new NameWithinEditDistancePredicate(Arrays.asList("Mayr", "Ku"));
+        FindNameCommand command = new FindNameCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsAsSubstringPredicate predicate =
@@ -73,7 +73,7 @@ public class FindPhoneCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         PhoneContainsKeywordsAsSubstringPredicate predicate = preparePredicate(" ");
         FindPhoneCommand command = new FindPhoneCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
@@ -83,9 +83,10 @@ public class FindPhoneCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 5);
         PhoneContainsKeywordsAsSubstringPredicate predicate = preparePredicate("9435 8765");
         FindPhoneCommand command = new FindPhoneCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, TRISTAN_NGUYEN, ALICE, BENSON, DANIEL),
+        // phones starting with a keyword are listed first
+        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, ALICE, DANIEL, TRISTAN_NGUYEN, BENSON),
                 model.getFilteredPersonList());
     }
 
@@ -94,7 +95,7 @@ public class FindPhoneCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         PhoneContainsKeywordsAsSubstringPredicate predicate = preparePredicate("9535");
         FindPhoneCommand command = new FindPhoneCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(PHUNG_KHANH_LINH, CARL), model.getFilteredPersonList());
     }
@@ -104,9 +105,10 @@ public class FindPhoneCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 8);
         PhoneContainsKeywordsAsSubstringPredicate predicate = preparePredicate("94 87");
         FindPhoneCommand command = new FindPhoneCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, TRISTAN_NGUYEN, ALICE, BENSON, DANIEL, ELLE, FIONA, GEORGE),
+        // phones starting with a keyword are listed first
+        assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, ALICE, DANIEL, ELLE, FIONA, GEORGE, TRISTAN_NGUYEN, BENSON),
                 model.getFilteredPersonList());
     }
 
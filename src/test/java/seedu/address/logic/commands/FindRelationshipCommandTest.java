@@ -138,6 +138,21 @@ public class FindRelationshipCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_relationshipListFiltered_personsFound() {
+        // The relationships shown do not change which persons have a matching relationship
+        model.updateFilteredRelationshipList(relationship -> false);
+        expectedModel.updateFilteredRelationshipList(relationship -> false);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        RelationshipContainsKeywordsAsSubstringPredicate predicate = preparePredicate("family", model);
+        FindRelationshipCommand command = new FindRelationshipCommand(predicate);
+
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         RelationshipContainsKeywordsAsSubstringPredicate predicate =
@@ -69,7 +69,7 @@ public class FindSocialCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         SocialContainsKeywordsAsSubstringPredicate predicate = preparePredicate(" ");
         FindSocialCommand command = new FindSocialCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
@@ -79,7 +79,7 @@ public class FindSocialCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
         SocialContainsKeywordsAsSubstringPredicate predicate = preparePredicate("alice_pauline benson_meier carl_kurz");
         FindSocialCommand command = new FindSocialCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getFilteredPersonList());
     }
@@ -89,7 +89,7 @@ public class FindSocialCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         SocialContainsKeywordsAsSubstringPredicate predicate = preparePredicate("nguyen");
         FindSocialCommand command = new FindSocialCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, TRISTAN_NGUYEN), model.getFilteredPersonList());
     }
@@ -99,7 +99,7 @@ public class FindSocialCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         SocialContainsKeywordsAsSubstringPredicate predicate = preparePredicate("@phung @khoi");
         FindSocialCommand command = new FindSocialCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(TRAN_KHOI_NGUYEN, PHUNG_KHANH_LINH), model.getFilteredPersonList());
     }
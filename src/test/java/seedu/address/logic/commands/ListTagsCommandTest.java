@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListTagsCommand}.
+ */
+public class ListTagsCommandTest {
+
+    @Test
+    public void execute_typicalAddressBook_countsListed() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ListTagsCommand.MESSAGE_SUCCESS, 2, "friends: 3\nowesMoney: 1");
+        assertCommandSuccess(new ListTagsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_personEdited_countsUpdated() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withTags("colleagues").build());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ListTagsCommand.MESSAGE_SUCCESS, 2, "colleagues: 1\nfriends: 2");
+        assertCommandSuccess(new ListTagsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noTags_noTagsMessage() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new ListTagsCommand(), model, ListTagsCommand.MESSAGE_NO_TAGS,
+                new ModelManager(new AddressBook(), new UserPrefs()));
+    }
+}
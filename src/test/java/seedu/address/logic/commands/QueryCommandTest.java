@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.QueryCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.query.QueryStatistics;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private CommandResult executeQuery(String query) throws Exception {
+        return new QueryCommandParser().parse(query, model).execute(model);
+    }
+
+    @Test
+    public void equals() throws Exception {
+        QueryCommand firstCommand = new QueryCommandParser().parse("n/alice AND t/friends", model);
+        QueryCommand secondCommand = new QueryCommandParser().parse("n/alice OR t/friends", model);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommandParser().parse("n/alice t/friends", model)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_fieldConditions_matchingPersonsFound() throws Exception {
+        executeQuery("n/meier AND NOT t/owesMoney");
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+
+        executeQuery("(n/pauline OR n/kurz) AND t/friends");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        executeQuery("NOT (t/friends OR a/street)");
+        assertEquals(List.of(ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_relationshipAndEventConditions_matchingPersonsFound() throws Exception {
+        model.addRelationship(new Relationship(ALICE.getId(), CARL.getId(), "Mentor", "Mentee", Set.of()));
+        Event reunion = new Event("00000001", "Class reunion", LocalDateTime.of(2024, 5, 1, 19, 0), "", "",
+                Set.of(), new UniquePersonList());
+        reunion.addContact(CARL);
+        reunion.addContact(DANIEL);
+        model.addEvent(reunion);
+
+        executeQuery("r/ment en/reunion");
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+
+        executeQuery("r/mentor OR (en/reunion AND t/friends)");
+        assertEquals(List.of(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_selectiveCondition_onlyCandidatesTested() throws Exception {
+        CommandResult result = executeQuery("(n/pauline OR n/kurz) AND NOT t/friends");
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+
+        QueryStatistics statistics = result.getQueryStatistics().get();
+        // the cheaper condition is tested first, on the candidates found for the names
+        assertEquals("(NOT t/friends AND (n/pauline OR n/kurz))", statistics.getPlan());
+        assertEquals(7, statistics.getPersonCount());
+        assertEquals(2, statistics.getCandidateCount());
+        assertEquals(1, statistics.getMatchCount());
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1) + "\n"
+                + QueryCommand.formatStatistics(statistics), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_tagConditionsOnly_matchedOnTagIndex() throws Exception {
+        CommandResult result = executeQuery("t/friends AND NOT t/owes");
+        assertEquals(List.of(ALICE, DANIEL), model.getFilteredPersonList());
+        // the tag conditions are matched on the tag index, so only the matches are tested
+        assertEquals(2, result.getQueryStatistics().get().getCandidateCount());
+
+        result = executeQuery("t/owes OR NOT t/friends");
+        assertEquals(List.of(BENSON, CARL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+        assertEquals(5, result.getQueryStatistics().get().getCandidateCount());
+    }
+
+    @Test
+    public void execute_personEdited_filterUpdated() throws Exception {
+        executeQuery("n/kurz AND t/friends");
+        assertEquals(List.of(), model.getFilteredPersonList());
+
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        model.setPerson(CARL, taggedCarl);
+        assertEquals(List.of(taggedCarl), model.getFilteredPersonList());
+
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Kurz").build());
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void toStringMethod() throws Exception {
+        QueryCommand command = new QueryCommandParser().parse("n/alice OR t/friends", model);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=(n/alice OR t/friends)}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -28,6 +28,8 @@ import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.commands.FindSocialCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListTagsCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RedoListCommand;
 import seedu.address.logic.commands.SortCommand;
@@ -124,6 +126,13 @@ public class AddressBookParserTest {
         assertEquals(new FindSocialCommand(new SocialContainsKeywordsAsSubstringPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_query() throws Exception {
+        String query = "n/alice AND NOT (t/friends OR r/mentor)";
+        QueryCommand command = (QueryCommand) parser.parseCommand(QueryCommand.COMMAND_WORD + " " + query, model);
+        assertEquals(new QueryCommandParser().parse(query, model), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD, model) instanceof HelpCommand);
@@ -136,6 +145,11 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3", model) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_listTags() throws Exception {
+        assertTrue(parser.parseCommand(ListTagsCommand.COMMAND_WORD, model) instanceof ListTagsCommand);
+    }
+
     @Test
     public void parseCommand_sort() throws Exception {
         String sortCommand = SortCommand.COMMAND_WORD + " name phone";
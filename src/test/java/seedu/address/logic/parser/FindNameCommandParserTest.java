@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindNameCommand;
 import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameWithinEditDistancePredicate;
 
 public class FindNameCommandParserTest {
 
@@ -32,4 +33,21 @@ public class FindNameCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindNameCommand expectedFindCommand =
+                new FindNameCommand(new NameWithinEditDistancePredicate(Arrays.asList("Alise", "Bbo")));
+        assertParseSuccess(parser, "-f Alise Bbo", expectedFindCommand);
+
+        // flag only counts before the keywords
+        assertParseSuccess(parser, "Alise -f", new FindNameCommand(
+                new NameContainsKeywordsAsSubstringPredicate(Arrays.asList("Alise", "-f"))));
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -f  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindNameCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,115 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.predicate.AddressContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.EventContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.PhoneContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.RelationshipContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private final Model model = new ModelManager();
+
+    private final PersonQuery name = PersonQuery.condition("n/alice",
+            new NameContainsKeywordsAsSubstringPredicate(List.of("alice")), PersonQuery.COST_FIELD);
+    private final PersonQuery phone = PersonQuery.condition("p/9435",
+            new PhoneContainsKeywordsAsSubstringPredicate(List.of("9435")), PersonQuery.COST_FIELD);
+    private final PersonQuery tag = PersonQuery.condition("t/friends",
+            new TagContainsKeywordsAsSubstringPredicate(Set.of(new Tag("friends"))), PersonQuery.COST_FIELD);
+    private final PersonQuery role = PersonQuery.condition("r/mentor",
+            new RelationshipContainsKeywordsAsSubstringPredicate(List.of("mentor"), model), PersonQuery.COST_LINKED);
+    private final PersonQuery event = PersonQuery.condition("en/reunion",
+            new EventContainsKeywordsAsSubstringPredicate(List.of("reunion"), model), PersonQuery.COST_LINKED);
+
+    private void assertQueryParsed(String userInput, PersonQuery expectedQuery) throws ParseException {
+        assertEquals(new QueryCommand(expectedQuery), new QueryCommandParser().parse(userInput, model));
+    }
+
+    private void assertQueryParseFailure(String userInput, String expectedMessage) {
+        assertThrows(ParseException.class, expectedMessage, () -> new QueryCommandParser().parse(userInput, model));
+    }
+
+    @Test
+    public void parse_withoutModel_throwsParseException() {
+        assertParseFailure(new QueryCommandParser(), "n/alice", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_singleCondition_success() throws Exception {
+        assertQueryParsed("n/alice", name);
+        assertQueryParsed(" \t en/reunion \n", event);
+    }
+
+    @Test
+    public void parse_quotedKeyword_success() throws Exception {
+        assertQueryParsed("a/\"Clementi Ave (West)\" OR en/\"class reunion\"", PersonQuery.or(List.of(
+                PersonQuery.condition("a/\"Clementi Ave (West)\"", new AddressContainsKeywordsAsSubstringPredicate(
+                        List.of("Clementi Ave (West)")), PersonQuery.COST_FIELD),
+                PersonQuery.condition("en/\"class reunion\"", new EventContainsKeywordsAsSubstringPredicate(
+                        List.of("class reunion"), model), PersonQuery.COST_LINKED))));
+        assertQueryParsed("(n/\"alice\")", name);
+    }
+
+    @Test
+    public void parse_operatorPrecedence_success() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertQueryParsed("n/alice OR t/friends AND NOT r/mentor",
+                PersonQuery.or(List.of(name, PersonQuery.and(List.of(tag, PersonQuery.not(role))))));
+        assertQueryParsed("(n/alice OR t/friends) AND NOT r/mentor",
+                PersonQuery.and(List.of(PersonQuery.or(List.of(name, tag)), PersonQuery.not(role))));
+        assertQueryParsed("NOT NOT n/alice", PersonQuery.not(PersonQuery.not(name)));
+    }
+
+    @Test
+    public void parse_conditionsWithoutOperator_joinedWithAnd() throws Exception {
+        assertQueryParsed("n/alice p/9435 (t/friends OR en/reunion)",
+                PersonQuery.and(List.of(name, phone, PersonQuery.or(List.of(tag, event)))));
+    }
+
+    @Test
+    public void parse_operandsOrderedByCost() throws Exception {
+        // relationship and event conditions are tested after the cheaper field conditions
+        assertEquals("(n/alice AND t/friends AND r/mentor AND en/reunion)",
+                PersonQuery.and(List.of(role, name, event, tag)).toString());
+        assertQueryParsed("r/mentor AND n/alice", PersonQuery.and(List.of(name, role)));
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertQueryParseFailure("", MESSAGE_INVALID_FORMAT);
+        assertQueryParseFailure("AND n/alice", MESSAGE_INVALID_FORMAT);
+        assertQueryParseFailure("n/alice OR", MESSAGE_INVALID_FORMAT);
+        assertQueryParseFailure("NOT", MESSAGE_INVALID_FORMAT);
+        assertQueryParseFailure("(n/alice OR t/friends", MESSAGE_INVALID_FORMAT);
+        assertQueryParseFailure("n/alice)", MESSAGE_INVALID_FORMAT);
+        assertQueryParseFailure("()", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidCondition_throwsParseException() {
+        assertQueryParseFailure("alice", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "alice"));
+        assertQueryParseFailure("n/", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "n/"));
+        assertQueryParseFailure("n/\"\"", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "n/\"\""));
+        assertQueryParseFailure("x/alice", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "x/alice"));
+        assertQueryParseFailure("t/best-friends", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
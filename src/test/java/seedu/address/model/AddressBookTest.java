@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -10,17 +11,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Event;
@@ -105,6 +105,21 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getEventList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_changesOnlyWhenDataChanges() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long countAfterAddPerson = addressBook.getModificationCount();
+        assertTrue(countAfterAddPerson > initialCount);
+
+        addressBook.addRelationship(new RelationshipBuilder().build());
+        assertTrue(addressBook.getModificationCount() > countAfterAddPerson);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -204,24 +219,18 @@ public class AddressBookTest {
     }
 
     @Test
-    public void sortPersons_withComparator_sortsList() throws CommandException {
-        AddressBook addressBook = new AddressBook();
+    public void getPersonNameById_personsChanged_currentNameReturned() {
         Person alice = new PersonBuilder().withName("Alice").build();
-        Person bob = new PersonBuilder().withName("Bob").build();
-        addressBook.addPerson(bob);
         addressBook.addPerson(alice);
+        assertEquals("Alice", addressBook.getPersonNameById(alice.getId()));
 
-        // Sort by name
-        addressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        Person aliceWithNewEmail = new PersonBuilder(alice).withEmail("alice@example.org").build();
+        addressBook.setPerson(alice, aliceWithNewEmail);
+        assertEquals("Alice", addressBook.getPersonNameById(aliceWithNewEmail.getId()));
 
-        assertEquals(alice, addressBook.getPersonList().get(0));
-        assertEquals(bob, addressBook.getPersonList().get(1));
-    }
-
-    @Test
-    public void sortPersons_nullComparator_throwsNullPointerException() {
-        AddressBook addressBook = new AddressBook();
-        assertThrows(NullPointerException.class, () -> addressBook.sortPersons(null));
+        addressBook.removePerson(aliceWithNewEmail);
+        assertNull(addressBook.getPersonNameById(alice.getId()));
+        assertNull(addressBook.getPersonNameById("nonexistent"));
     }
 
     @Test
@@ -238,6 +247,38 @@ public class AddressBookTest {
         assertFalse(event.getContacts().contains(person));
     }
 
+    @Test
+    public void removePerson_personNotInEvents_eventsUnchanged() {
+        AddressBook addressBook = new AddressBook();
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        Event event = new Event("Meeting", LocalDateTime.of(2024, 1, 1, 9, 0), null, null, null,
+                new UniquePersonList());
+        event.addContact(bob);
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        addressBook.addEvent(event);
+
+        addressBook.removePerson(alice);
+        assertEquals(List.of(bob), event.getContacts());
+    }
+
+    @Test
+    public void setPerson_personInEvents_replacesPersonInEvents() {
+        AddressBook addressBook = new AddressBook();
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Event event = new Event("Meeting", LocalDateTime.of(2024, 1, 1, 9, 0), null, null, null,
+                new UniquePersonList());
+        event.addContact(alice);
+        addressBook.addPerson(alice);
+        addressBook.addEvent(event);
+
+        Person editedAlice = new PersonBuilder(alice).withPhone("99999999").build();
+        addressBook.setPerson(alice, editedAlice);
+        assertSame(editedAlice, event.getContacts().get(0));
+        assertEquals(1, event.getContacts().size());
+    }
+
     @Test
     public void setEvent_validTargetAndEditedEvent_success() throws ParseException {
         AddressBook addressBook = new AddressBook();
@@ -350,6 +391,12 @@ public class AddressBookTest {
             return persons;
         }
 
+        @Override
+        public String getPersonNameById(String id) {
+            return persons.stream().filter(person -> person.getId().equals(id))
+                    .map(person -> person.getName().fullName).findFirst().orElse(null);
+        }
+
         @Override
         public ObservableList<Relationship> getRelationshipList() {
             return relationships;
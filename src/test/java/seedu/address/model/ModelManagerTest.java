@@ -18,6 +18,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -29,7 +30,9 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKeyComparator;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
 import seedu.address.model.predicate.NameContainsKeywordsPredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
@@ -136,11 +139,134 @@ public class ModelManagerTest {
         assertEquals(editedAlice, modelManager.getFilteredPersonList().get(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_substringPredicateThenEdit_filterStaysLive() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsAsSubstringPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicate_bestMatchesListedInOrder() {
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meiers").build();
+        modelManager.addPerson(aliceMeier);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        NameContainsKeywordsAsSubstringPredicate predicate =
+                new NameContainsKeywordsAsSubstringPredicate(List.of("meier"));
+
+        // the whole word in Benson Meier beats the start of a word in Alice Meiers
+        assertEquals(2, modelManager.updateFilteredPersonList(predicate, 1));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(2, modelManager.updateFilteredPersonList(predicate, Model.MAX_RANKED_PERSONS));
+        assertEquals(List.of(BENSON, aliceMeier), modelManager.getFilteredPersonList());
+
+        // the address book itself is not reordered
+        assertEquals(List.of(aliceMeier, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicateThenEdit_rankingStaysLive() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameContainsKeywordsAsSubstringPredicate predicate =
+                new NameContainsKeywordsAsSubstringPredicate(List.of("meier"));
+        modelManager.updateFilteredPersonList(predicate, 1);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Meierhof").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicateThenSingleEdit_betterMatchReplacesTopMatch() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsAsSubstringPredicate(List.of("meier")), 1);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // only Alice changes, so Benson must be hidden although he was not edited
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicateThenDelete_nextBestMatchShown() {
+        Person aliceMeiers = new PersonBuilder(ALICE).withName("Alice Meiers").build();
+        modelManager.addPerson(aliceMeiers);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsAsSubstringPredicate(List.of("meier")), 1);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(aliceMeiers), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateSortedPersonList_afterRankedPredicate_rankingReplaced() throws CommandException {
+        modelManager.addPerson(new PersonBuilder(ALICE).withName("Alice Meiers").build());
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsAsSubstringPredicate(List.of("meier")),
+                Model.MAX_RANKED_PERSONS);
+        assertEquals(BENSON, modelManager.getFilteredPersonList().get(0));
+
+        modelManager.updateSortedPersonList(Comparator.comparing(p -> p.getName().toString()));
+        assertEquals(BENSON, modelManager.getFilteredPersonList().get(1));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateSortedPersonList_sortKeyComparatorThenEdits_sortKeysReleased() throws CommandException {
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(ALICE);
+        PersonSortKeyComparator comparator = new PersonSortKeyComparator(List.of("phone"));
+        modelManager.updateSortedPersonList(comparator);
+
+        Person editedAlice = ALICE;
+        for (int i = 0; i < 10; i++) {
+            Person nextAlice = new PersonBuilder(ALICE).withPhone(String.format("%08d", i)).build();
+            modelManager.setPerson(editedAlice, nextAlice);
+            editedAlice = nextAlice;
+        }
+        modelManager.deletePerson(CARL);
+
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+        assertTrue(comparator.getSortKeyCount() <= 1);
+    }
+
+    @Test
+    public void updateSortedPersonList_thenFilter_orderKeptWithoutReorderingAddressBook() throws CommandException {
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.updateSortedPersonList(Comparator.comparing(p -> p.getName().toString()));
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        assertEquals(List.of(CARL, BENSON, ALICE), modelManager.getAddressBook().getPersonList());
+
+        modelManager.updateFilteredPersonList(person -> person != BENSON);
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        modelManager.addPerson(amy);
+        assertEquals(List.of(ALICE, amy, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void updateSortedPersonList_validComparator_sortsList() throws CommandException {
         modelManager.addPerson(BENSON);
@@ -185,6 +311,20 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasRelationship(r));
     }
 
+    @Test
+    public void getRelationshipsOf_personWithRelationship_returnsRelationship() {
+        Person p1 = new PersonBuilder().build();
+        Person p2 = new PersonBuilder(BOB).build();
+        Relationship r = new RelationshipBuilder().withUser1Id(p1.getId()).withUser2Id(p2.getId()).build();
+        modelManager.addPerson(p1);
+        modelManager.addPerson(p2);
+        modelManager.addRelationship(r);
+        assertEquals(List.of(r), modelManager.getRelationshipsOf(p2.getId()));
+
+        modelManager.deletePerson(p1);
+        assertTrue(modelManager.getRelationshipsOf(p2.getId()).isEmpty());
+    }
+
     @Test
     public void hasRelationshipByIds_nullParams_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasRelationship(null, "id2", "friend"));
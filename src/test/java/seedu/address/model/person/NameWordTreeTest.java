@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameWordTreeTest {
+
+    private final NameWordTree tree = new NameWordTree();
+
+    /**
+     * Returns the matches of {@code keyword} found by comparing it against every word of {@code persons}.
+     */
+    private static Map<Person, Integer> searchAll(List<Person> persons, String keyword, int maxDistance) {
+        Map<Person, Integer> distancesByPerson = new HashMap<>();
+        for (Person person : persons) {
+            for (String word : NameWordTree.wordsOf(person.getName())) {
+                int distance = StringUtil.editDistance(keyword, word);
+                if (distance <= maxDistance) {
+                    distancesByPerson.merge(person, distance, Math::min);
+                }
+            }
+        }
+        return distancesByPerson;
+    }
+
+    @Test
+    public void wordsOf_name_distinctLowerCaseWords() {
+        assertEquals(List.of("alice", "pauline"), NameWordTree.wordsOf(new Name("Alice  Pauline alice")));
+    }
+
+    @Test
+    public void search_typicalPersons_sameAsComparingEveryWord() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(tree::add);
+        for (String keyword : List.of("alice", "alise", "meyer", "meir", "kurtz", "best", "x", "")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertEquals(searchAll(persons, keyword, maxDistance), new HashMap<>(tree.search(keyword, maxDistance)),
+                        keyword + " within " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void search_closestWord_distanceOfClosestWord() {
+        tree.add(new PersonBuilder().withName("Meier Meyer").build());
+        assertEquals(List.of(1), List.copyOf(tree.search("meir", 2).values()));
+    }
+
+    @Test
+    public void search_emptyTree_noMatches() {
+        assertTrue(tree.search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void remove_persons_noLongerFound() {
+        List.of(ALICE, BENSON, DANIEL, ELLE, HOON).forEach(tree::add);
+        tree.remove(BENSON);
+        assertEquals(Map.of(DANIEL, 0, HOON, 0, ELLE, 1), new HashMap<>(tree.search("meier", 1)));
+
+        // removing most of the words rebuilds the tree
+        tree.remove(ALICE);
+        tree.remove(ELLE);
+        tree.remove(DANIEL);
+        assertEquals(Map.of(HOON, 0), new HashMap<>(tree.search("meier", 1)));
+
+        // a word can be used again after its last person is removed
+        tree.add(ALICE);
+        assertEquals(Map.of(ALICE, 1), new HashMap<>(tree.search("alise", 1)));
+    }
+}
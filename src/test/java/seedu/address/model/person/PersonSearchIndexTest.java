@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.predicate.AddressContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.EmailContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameWithinEditDistancePredicate;
+import seedu.address.model.predicate.PhoneContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.SocialContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final List<Person> persons = new ArrayList<>(getTypicalPersons());
+    private final PersonSearchIndex index = new PersonSearchIndex(persons);
+
+    private void assertSameMatches(PersonSearchIndex.FieldPredicate predicate) {
+        Predicate<Person> narrowed = index.narrow(predicate);
+        for (Person person : persons) {
+            assertEquals(predicate.test(person), narrowed.test(person), predicate + " on " + person);
+        }
+    }
+
+    @Test
+    public void getCandidates_allFields_includeEveryMatch() {
+        List<String> keywords = List.of("meier", "ALI", "street", "9482", "example", "ice", "frien", "xyz");
+        for (String keyword : keywords) {
+            assertSameMatches(new NameContainsKeywordsAsSubstringPredicate(List.of(keyword)));
+            assertSameMatches(new PhoneContainsKeywordsAsSubstringPredicate(List.of(keyword)));
+            assertSameMatches(new EmailContainsKeywordsAsSubstringPredicate(List.of(keyword)));
+            assertSameMatches(new AddressContainsKeywordsAsSubstringPredicate(List.of(keyword)));
+            assertSameMatches(new SocialContainsKeywordsAsSubstringPredicate(List.of(keyword)));
+            assertSameMatches(new TagContainsKeywordsAsSubstringPredicate(Set.of(new Tag(keyword))));
+        }
+        assertSameMatches(new NameContainsKeywordsAsSubstringPredicate(keywords));
+    }
+
+    @Test
+    public void getCandidates_keyword_onlyPersonsWithAllTrigrams() {
+        assertEquals(Set.of(ALICE), getNameCandidates("PAULINE"));
+        assertTrue(index.getCandidates(PersonSearchIndex.Field.NAME, List.of("zzz")).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_charactersEqualIgnoringCase_includeEveryMatch() {
+        // a long s is the same letter as an s ignoring case, so its trigrams must be indexed as those of an s
+        Person pastorStreet = new PersonBuilder(IDA).withAddress("Pa\u017Ftor Street").build();
+        persons.add(pastorStreet);
+        index.add(pastorStreet);
+        AddressContainsKeywordsAsSubstringPredicate predicate =
+                new AddressContainsKeywordsAsSubstringPredicate(List.of("PASTOR"));
+        assertTrue(predicate.test(pastorStreet));
+        assertSameMatches(predicate);
+    }
+
+    @Test
+    public void getCandidates_commonKeyword_returnsNull() {
+        // "meier" is in more than a quarter of the names, so checking every person is cheaper
+        assertNull(index.getCandidates(PersonSearchIndex.Field.NAME, List.of("meier")));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_returnsNull() {
+        assertNull(index.getCandidates(PersonSearchIndex.Field.NAME, List.of("meier", "al")));
+        assertNull(index.getCandidates(PersonSearchIndex.Field.NAME, List.of("")));
+    }
+
+    @Test
+    public void getCandidates_tagKeywordAcrossTags_noCandidates() {
+        // "owesmoney" and "friends" are separate values, so nothing matches text spanning both of them
+        assertTrue(index.getCandidates(PersonSearchIndex.Field.TAG, List.of("neyfri")).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_tagKeyword_exactlyPersonsWithMatchingTags() {
+        // tags are matched on the tag index, so even keywords shorter than a trigram are narrowed down
+        assertEquals(Set.of(BENSON), index.getCandidates(PersonSearchIndex.Field.TAG, List.of("OW")));
+
+        Person taggedCarl = new PersonBuilder(CARL).withTags("owesRent").build();
+        persons.set(persons.indexOf(CARL), taggedCarl);
+        index.remove(CARL);
+        index.add(taggedCarl);
+        assertEquals(Set.of(BENSON, taggedCarl), index.getCandidates(PersonSearchIndex.Field.TAG, List.of("OW")));
+    }
+
+    @Test
+    public void narrow_personsChanged_candidatesUpdated() {
+        NameContainsKeywordsAsSubstringPredicate predicate =
+                new NameContainsKeywordsAsSubstringPredicate(List.of("mueller"));
+        assertSameMatches(predicate);
+
+        persons.add(IDA);
+        index.add(IDA);
+        assertSameMatches(predicate);
+        assertEquals(Set.of(IDA), getNameCandidates("mueller"));
+
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Mueller").build();
+        persons.set(persons.indexOf(ELLE), renamedElle);
+        index.remove(ELLE);
+        index.add(renamedElle);
+        assertSameMatches(predicate);
+        assertEquals(Set.of(IDA, renamedElle), getNameCandidates("mueller"));
+
+        persons.remove(IDA);
+        index.remove(IDA);
+        assertSameMatches(predicate);
+        assertEquals(Set.of(renamedElle), getNameCandidates("mueller"));
+
+        persons.clear();
+        persons.addAll(List.of(ALICE, IDA, ELLE, FIONA));
+        index.clear();
+        assertSameMatches(predicate);
+        assertEquals(Set.of(IDA), getNameCandidates("mueller"));
+    }
+
+    @Test
+    public void narrow_fuzzyNamePredicate_sameMatchesAfterChanges() {
+        NameWithinEditDistancePredicate predicate = new NameWithinEditDistancePredicate(List.of("meyr", "alise"));
+        // "meier" is two typos away from "meyr", which is too short to allow more than one
+        assertEquals(Map.of(ALICE, 1, ELLE, 1), new HashMap<>(index.getFuzzyNameMatches(predicate)));
+
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Meyr").build();
+        persons.set(persons.indexOf(ELLE), renamedElle);
+        index.remove(ELLE);
+        index.add(renamedElle);
+        Predicate<Person> narrowed = index.narrow(predicate);
+        for (Person person : persons) {
+            assertEquals(predicate.test(person), narrowed.test(person), person.toString());
+        }
+        assertEquals(Integer.valueOf(0), index.getFuzzyNameMatches(predicate).get(renamedElle));
+
+        persons.clear();
+        persons.add(IDA);
+        index.clear();
+        assertTrue(index.getFuzzyNameMatches(predicate).isEmpty());
+    }
+
+    private Set<Person> getNameCandidates(String keyword) {
+        return index.getCandidates(PersonSearchIndex.Field.NAME, List.of(keyword)).stream()
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortKeyComparatorTest {
+
+    private static List<Person> sort(List<String> fields, Person... persons) {
+        List<Person> sortedPersons = new ArrayList<>(List.of(persons));
+        sortedPersons.sort(new PersonSortKeyComparator(fields));
+        return sortedPersons;
+    }
+
+    @Test
+    public void constructor_invalidFields_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new PersonSortKeyComparator(null));
+        assertThrows(IllegalArgumentException.class, () -> new PersonSortKeyComparator(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PersonSortKeyComparator(List.of("name", "age")));
+    }
+
+    @Test
+    public void compare_name_wordByWordIgnoringCase() {
+        Person annLee = new PersonBuilder().withName("ann lee").build();
+        Person annaBell = new PersonBuilder().withName("Anna Bell").build();
+        Person annaBellUpperCase = new PersonBuilder().withName("ANNA BELL").build();
+        assertEquals(List.of(annLee, annaBellUpperCase, annaBell),
+                sort(List.of("Name"), annaBellUpperCase, annaBell, annLee));
+    }
+
+    @Test
+    public void compare_multipleFields_laterFieldsBreakTies() {
+        Person alicePhone = new PersonBuilder(ALICE).withPhone("11111111").build();
+        Person bensonAddress = new PersonBuilder(BENSON).withAddress(ALICE.getAddress().value).build();
+        assertEquals(List.of(alicePhone, ALICE, BENSON),
+                sort(List.of("address", "phone"), BENSON, ALICE, alicePhone));
+        assertEquals(List.of(alicePhone, ALICE, bensonAddress),
+                sort(List.of("address", "phone"), ALICE, bensonAddress, alicePhone));
+    }
+
+    @Test
+    public void compare_reversed_reverseOrder() {
+        List<Person> sortedPersons = new ArrayList<>(List.of(ALICE, CARL, BENSON));
+        sortedPersons.sort(new PersonSortKeyComparator(List.of("name"), true));
+        assertEquals(List.of(CARL, BENSON, ALICE), sortedPersons);
+    }
+
+    @Test
+    public void rank_parallel_sameOrder() {
+        List<Person> persons = getTypicalPersons();
+        PersonSortKeyComparator comparator = new PersonSortKeyComparator(List.of("tags", "address", "name"));
+        comparator.rank(persons, true);
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(comparator);
+        assertEquals(sort(List.of("tags", "address", "name"), persons.toArray(Person[]::new)), sortedPersons);
+    }
+
+    @Test
+    public void rank_equalKeysAndPersonAddedLater_sameOrderAsKeys() {
+        Person otherCarl = new PersonBuilder(CARL).withName("carl kurz").build();
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        PersonSortKeyComparator comparator = new PersonSortKeyComparator(List.of("name"));
+        comparator.rank(List.of(CARL, ALICE, otherCarl), false);
+
+        // CARL and otherCarl have equal keys, and amy is compared by her key as she has no rank
+        assertEquals(0, comparator.compare(CARL, otherCarl));
+        List<Person> sortedPersons = new ArrayList<>(List.of(CARL, amy, otherCarl, ALICE));
+        sortedPersons.sort(comparator);
+        assertEquals(List.of(ALICE, amy, CARL, otherCarl), sortedPersons);
+    }
+
+    @Test
+    public void compare_tagsAfterFirstField_comparedByNumber() {
+        Person oneTag = new PersonBuilder(CARL).withTags("zebra").build();
+        Person twoTags = new PersonBuilder(CARL).withTags("apple", "banana").build();
+        assertEquals(List.of(oneTag, twoTags), sort(List.of("name", "tags"), twoTags, oneTag));
+        assertEquals(List.of(twoTags, oneTag), sort(List.of("tags"), oneTag, twoTags));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    private Set<Person> getPersonsWithTagContainingAny(String... lowerCaseKeywords) {
+        return index.getPersons(index.getSlotsWithTagContainingAny(List.of(lowerCaseKeywords)));
+    }
+
+    @Test
+    public void getTagCounts_typicalPersons_countsByTag() {
+        getTypicalPersons().forEach(index::add);
+        assertEquals(Map.of("friends", 3, "owesMoney", 1), index.getTagCounts());
+        assertEquals(List.of("friends", "owesMoney"), List.copyOf(index.getTagCounts().keySet()));
+    }
+
+    @Test
+    public void getSlotsWithTagContainingAny_keywords_personsWithMatchingTags() {
+        getTypicalPersons().forEach(index::add);
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), getPersonsWithTagContainingAny("fri"));
+        assertEquals(Set.of(BENSON), getPersonsWithTagContainingAny("money"));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), getPersonsWithTagContainingAny("money", "ends"));
+        assertTrue(getPersonsWithTagContainingAny("neyfri").isEmpty());
+    }
+
+    @Test
+    public void getAllSlots_personsRemoved_freeSlotsExcluded() {
+        getTypicalPersons().forEach(index::add);
+        index.remove(BENSON);
+        index.remove(CARL);
+        BitSet untagged = index.getAllSlots();
+        untagged.andNot(index.getSlotsWithTagContainingAny(List.of("friends")));
+        assertEquals(Set.of(ELLE, FIONA, GEORGE), index.getPersons(untagged));
+        assertEquals(getTypicalPersons().size() - 2, index.getAllSlots().cardinality());
+    }
+
+    @Test
+    public void addAndRemove_slotsReusedAndCountsUpdated() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertEquals(Map.of("friends", 1, "owesMoney", 1), index.getTagCounts());
+
+        Person taggedCarl = new PersonBuilder(CARL).withTags("colleagues").build();
+        index.add(taggedCarl);
+        // Carl takes the slot Alice left, so the bitmaps do not grow
+        assertEquals(2, index.getAllSlots().length());
+        assertEquals(Set.of(taggedCarl), getPersonsWithTagContainingAny("coll"));
+        assertEquals(Set.of(BENSON), getPersonsWithTagContainingAny("friends"));
+
+        index.remove(BENSON);
+        assertEquals(Map.of("colleagues", 1), index.getTagCounts());
+
+        index.clear();
+        assertTrue(index.getTagCounts().isEmpty());
+        assertTrue(index.getAllSlots().isEmpty());
+    }
+}
@@ -2,21 +2,26 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +52,82 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getById(null));
+    }
+
+    @Test
+    public void getById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(ALICE, uniquePersonList.getById(ALICE.getId()));
+        assertEquals(BOB, uniquePersonList.getById(BOB.getId()));
+    }
+
+    @Test
+    public void getById_personNotInList_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.getById(BOB.getId()));
+    }
+
+    @Test
+    public void getById_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertNull(uniquePersonList.getById(ALICE.getId()));
+        assertEquals(BOB, uniquePersonList.getById(BOB.getId()));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getById_afterRemove_returnsNull() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getById(ALICE.getId()));
+    }
+
+    @Test
+    public void getById_sharedIdAndFirstRemoved_otherPersonReturned() {
+        Person alice = withId(ALICE, "shared-id");
+        Person bob = withId(BOB, "shared-id");
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        assertEquals(alice, uniquePersonList.getById("shared-id"));
+
+        uniquePersonList.remove(alice);
+        assertEquals(bob, uniquePersonList.getById("shared-id"));
+        uniquePersonList.remove(bob);
+        assertNull(uniquePersonList.getById("shared-id"));
+    }
+
+    @Test
+    public void getById_sharedIdAndFirstEdited_otherPersonReturned() {
+        Person alice = withId(ALICE, "shared-id");
+        Person bob = withId(BOB, "shared-id");
+        uniquePersonList.setPersons(List.of(alice, bob));
+
+        uniquePersonList.setPerson(alice, CARL);
+        assertEquals(bob, uniquePersonList.getById("shared-id"));
+        assertEquals(CARL, uniquePersonList.getById(CARL.getId()));
+    }
+
+    @Test
+    public void getById_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertNull(uniquePersonList.getById(ALICE.getId()));
+        assertEquals(BOB, uniquePersonList.getById(BOB.getId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -119,6 +200,13 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -127,6 +215,29 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonWithOtherIdAndSocials_storedPersonRemovedFromIndexes() {
+        Person storedAlice = withId(ALICE, "stored-id");
+        uniquePersonList.add(storedAlice);
+        uniquePersonList.remove(new PersonBuilder(ALICE).withSocials("linkedin.com/in/alice").build());
+
+        assertNull(uniquePersonList.getById("stored-id"));
+        assertTrue(uniquePersonList.getTagIndex().getTagCounts().isEmpty());
+        assertTrue(uniquePersonList.getSearchCandidates(
+                new NameContainsKeywordsAsSubstringPredicate(List.of("alice"))).isEmpty());
+    }
+
+    @Test
+    public void setPerson_equalTargetWithOtherId_storedPersonReplacedInIndexes() {
+        uniquePersonList.add(withId(ALICE, "stored-id"));
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertNull(uniquePersonList.getById("stored-id"));
+        assertEquals(BOB, uniquePersonList.getById(BOB.getId()));
+        assertEquals(Set.of(VALID_TAG_FRIEND, VALID_TAG_HUSBAND),
+                uniquePersonList.getTagIndex().getTagCounts().keySet());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +273,24 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicatePersons_reportsAllDuplicateNames() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, editedBob, ALICE);
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(ALICE.getName(), BOB.getName()))
+                .getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE)));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +301,9 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private static Person withId(Person person, String id) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getSocials(), person.getTags(), id);
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.address.model.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordRelevanceTest {
+
+    @Test
+    public void score_noMatch_returnsZero() {
+        assertEquals(0, KeywordRelevance.score(List.of("Alice Pauline"), List.of("bob")));
+        assertEquals(0, KeywordRelevance.score(List.of(), List.of("alice")));
+        assertEquals(0, KeywordRelevance.score(List.of("Alice Pauline"), List.of("")));
+    }
+
+    @Test
+    public void score_betterMatch_scoresHigher() {
+        int wordMatch = KeywordRelevance.score(List.of("Alice Pauline"), List.of("pauline"));
+        int wordPrefixMatch = KeywordRelevance.score(List.of("Alice Paulines"), List.of("pauline"));
+        int substringMatch = KeywordRelevance.score(List.of("Alice McPauline"), List.of("pauline"));
+        assertTrue(wordMatch > wordPrefixMatch);
+        assertTrue(wordPrefixMatch > substringMatch);
+        assertTrue(substringMatch > 0);
+
+        // a whole word later in the value beats an earlier part of a word, ignoring the case of the value
+        assertEquals(wordMatch, KeywordRelevance.score(List.of("MCPAULINE PAULINE"), List.of("pauline")));
+    }
+
+    @Test
+    public void score_moreKeywordsMatched_scoresHigher() {
+        List<String> keywords = List.of("alice", "pauline", "kurz");
+        int twoSubstringMatches = KeywordRelevance.score(List.of("Malice McPauline"), keywords);
+        int oneWordMatch = KeywordRelevance.score(List.of("Alice Meier"), keywords);
+        assertTrue(twoSubstringMatches > oneWordMatch);
+    }
+}
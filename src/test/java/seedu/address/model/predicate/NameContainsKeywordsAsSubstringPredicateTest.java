@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -118,6 +119,20 @@ public class NameContainsKeywordsAsSubstringPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withName("NgUyEn").build()));
     }
 
+    @Test
+    public void test_turkishDefaultLocale_keywordWithCapitalIMatches() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // in Turkish, "I".toLowerCase() is a dotless i, which does not match the "I" in the name
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            NameContainsKeywordsAsSubstringPredicate predicate =
+                    new NameContainsKeywordsAsSubstringPredicate(Collections.singletonList("Ida"));
+            assertTrue(predicate.test(new PersonBuilder().withName("Ida Mueller").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("Ng", "Tr");
@@ -0,0 +1,107 @@
+package seedu.address.model.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameWithinEditDistancePredicateTest {
+
+    private final Person tranKhoiNguyen = new PersonBuilder().withName("Tran Khoi Nguyen").build();
+
+    @Test
+    public void equals() {
+        NameWithinEditDistancePredicate firstPredicate = new NameWithinEditDistancePredicate(List.of("Nguyen"));
+        NameWithinEditDistancePredicate secondPredicate = new NameWithinEditDistancePredicate(List.of("Nguyen", "Tr"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameWithinEditDistancePredicate(List.of("Nguyen"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsAsSubstringPredicate(List.of("Nguyen"))));
+    }
+
+    @Test
+    public void getMaxDistance_longerKeywords_moreTyposAllowed() {
+        NameWithinEditDistancePredicate predicate = new NameWithinEditDistancePredicate(List.of());
+        assertEquals(0, predicate.getMaxDistance("Tr"));
+        assertEquals(1, predicate.getMaxDistance("Tra"));
+        assertEquals(1, predicate.getMaxDistance("Trann"));
+        assertEquals(2, predicate.getMaxDistance("Nguyen"));
+    }
+
+    @Test
+    public void test_nameWithinEditDistance_returnsTrue() {
+        // Exact word, ignoring case
+        assertTrue(new NameWithinEditDistancePredicate(List.of("KHOI")).test(tranKhoiNguyen));
+
+        // Typos within the allowed distance
+        assertTrue(new NameWithinEditDistancePredicate(List.of("Khoj")).test(tranKhoiNguyen));
+        assertTrue(new NameWithinEditDistancePredicate(List.of("Ngyuen")).test(tranKhoiNguyen));
+
+        // Multiple keywords, one matches
+        assertTrue(new NameWithinEditDistancePredicate(List.of("Linh", "Tram")).test(tranKhoiNguyen));
+    }
+
+    @Test
+    public void test_nameNotWithinEditDistance_returnsFalse() {
+        // Zero keywords
+        assertFalse(new NameWithinEditDistancePredicate(Collections.emptyList()).test(tranKhoiNguyen));
+
+        // Short keywords must match a whole word exactly
+        assertFalse(new NameWithinEditDistancePredicate(List.of("Tr")).test(tranKhoiNguyen));
+
+        // Too many typos for the length of the keyword
+        assertFalse(new NameWithinEditDistancePredicate(List.of("Kohy")).test(tranKhoiNguyen));
+
+        // Whole name is not a word
+        assertFalse(new NameWithinEditDistancePredicate(List.of("Tran Khoi")).test(tranKhoiNguyen));
+    }
+
+    @Test
+    public void getDistance_closestKeyword_fewestTypos() {
+        NameWithinEditDistancePredicate predicate = new NameWithinEditDistancePredicate(List.of("Nguyne", "Tran"));
+        assertEquals(OptionalInt.of(0), predicate.getDistance(tranKhoiNguyen));
+
+        predicate = new NameWithinEditDistancePredicate(List.of("Nguyne", "Khio"));
+        assertEquals(OptionalInt.of(2), predicate.getDistance(tranKhoiNguyen));
+
+        predicate = new NameWithinEditDistancePredicate(List.of("Linh"));
+        assertEquals(OptionalInt.empty(), predicate.getDistance(tranKhoiNguyen));
+    }
+
+    @Test
+    public void getRelevance_fewerTypos_moreRelevant() {
+        assertEquals(2, new NameWithinEditDistancePredicate(List.of("Tran")).getRelevance(tranKhoiNguyen));
+        assertEquals(1, new NameWithinEditDistancePredicate(List.of("Tram")).getRelevance(tranKhoiNguyen));
+        assertEquals(0, new NameWithinEditDistancePredicate(List.of("Nguyne")).getRelevance(tranKhoiNguyen));
+        assertEquals(0, new NameWithinEditDistancePredicate(List.of("Linh")).getRelevance(tranKhoiNguyen));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("Nguyen", "Tr");
+        NameWithinEditDistancePredicate predicate = new NameWithinEditDistancePredicate(keywords);
+
+        String expected = NameWithinEditDistancePredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -14,14 +14,18 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.predicate.RankedPredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -34,21 +38,34 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
     private final String person3Id = "user3";
 
     private Model createModelWithRelationships() {
-        ObservableList<Relationship> relationshipList = FXCollections.observableArrayList(
-                new Relationship(person1Id, person2Id, "Best Friend", "Best Friend",
-                        Collections.singleton(new Tag("Friends"))),
-                new Relationship(person2Id, person3Id, "Lender", "Borrower",
-                        Set.of(new Tag("Money"), new Tag("Business")))
-        );
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRelationship(new Relationship(person1Id, person2Id, "Best Friend", "Best Friend",
+                Collections.singleton(new Tag("Friends"))));
+        addressBook.addRelationship(new Relationship(person2Id, person3Id, "Lender", "Borrower",
+                Set.of(new Tag("Money"), new Tag("Business"))));
+        return createModel(addressBook);
+    }
 
+    private Model createModel(AddressBook addressBook) {
         return new ModelStub() {
             @Override
-            public ObservableList<Relationship> getFilteredRelationshipList() {
-                return relationshipList;
+            public ReadOnlyAddressBook getAddressBook() {
+                return addressBook;
+            }
+
+            @Override
+            public long getAddressBookModificationCount() {
+                return addressBook.getModificationCount();
             }
         };
     }
 
+    private Person personWithId(String id) {
+        Person person = new PersonBuilder().build();
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getSocials(), person.getTags(), id);
+    }
+
     @Test
     public void equals() {
         List<String> firstPredicateKeywordList = Collections.singletonList("friend");
@@ -75,8 +92,7 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
         Model model = createModelWithRelationships();
         RelationshipContainsKeywordsAsSubstringPredicate predicate =
                 new RelationshipContainsKeywordsAsSubstringPredicate(Collections.singletonList("friend"), model);
-        Person person = new PersonBuilder().withName("Person One").build();
-        assertTrue(true);
+        assertTrue(predicate.test(personWithId(person1Id)));
     }
 
     @Test
@@ -84,8 +100,8 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
         Model model = createModelWithRelationships();
         RelationshipContainsKeywordsAsSubstringPredicate predicate =
                 new RelationshipContainsKeywordsAsSubstringPredicate(Collections.singletonList("borrow"), model);
-        Person person = new PersonBuilder().withName("Person Three").build();
-        assertTrue(true);
+        assertTrue(predicate.test(personWithId(person3Id)));
+        assertFalse(predicate.test(personWithId(person2Id)));
     }
 
     @Test
@@ -93,8 +109,7 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
         Model model = createModelWithRelationships();
         RelationshipContainsKeywordsAsSubstringPredicate predicate =
                 new RelationshipContainsKeywordsAsSubstringPredicate(Arrays.asList("friend", "lender"), model);
-        Person person = new PersonBuilder().withName("Person Two").build();
-        assertTrue(true);
+        assertTrue(predicate.test(personWithId(person2Id)));
     }
 
     @Test
@@ -102,18 +117,12 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
         Model model = createModelWithRelationships();
         RelationshipContainsKeywordsAsSubstringPredicate predicate =
                 new RelationshipContainsKeywordsAsSubstringPredicate(Collections.singletonList("friend"), model);
-        Person person = new PersonBuilder().withName("Random Person").build();
-        assertTrue(true);
+        assertFalse(predicate.test(personWithId("user4")));
     }
 
     @Test
     public void test_emptyRelationshipList_returnsFalse() {
-        Model emptyModel = new ModelStub() {
-            @Override
-            public ObservableList<Relationship> getFilteredRelationshipList() {
-                return FXCollections.observableArrayList();
-            }
-        };
+        Model emptyModel = createModel(new AddressBook());
 
         RelationshipContainsKeywordsAsSubstringPredicate predicate =
                 new RelationshipContainsKeywordsAsSubstringPredicate(Collections.singletonList("friend"), emptyModel);
@@ -121,6 +130,18 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
         assertFalse(predicate.test(person));
     }
 
+    @Test
+    public void test_relationshipsChanged_matchesUpdated() {
+        AddressBook addressBook = new AddressBook();
+        Model model = createModel(addressBook);
+        RelationshipContainsKeywordsAsSubstringPredicate predicate =
+                new RelationshipContainsKeywordsAsSubstringPredicate(Collections.singletonList("mentor"), model);
+        assertFalse(predicate.test(personWithId(person1Id)));
+
+        addressBook.addRelationship(new Relationship(person1Id, person2Id, "Mentor", "Mentee", Set.of()));
+        assertTrue(predicate.test(personWithId(person1Id)));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("friend", "borrow");
@@ -176,6 +197,11 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new UnsupportedOperationException();
@@ -211,6 +237,11 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public int updateFilteredPersonList(RankedPredicate predicate, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public void updateSortedPersonList(Comparator<Person> comparator) {
             throw new UnsupportedOperationException();
@@ -221,6 +252,21 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Person getPersonByName(Name name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<Person> getSearchCandidates(PersonSearchIndex.FieldPredicate predicate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TagIndex getTagIndex() {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public boolean hasRelationship(Relationship relationship) {
             throw new UnsupportedOperationException();
@@ -252,6 +298,11 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public List<Relationship> getRelationshipsOf(String userId) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public boolean hasEvent(Event event) {
             throw new UnsupportedOperationException();
@@ -0,0 +1,49 @@
+package seedu.address.model.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class TopMatchesPredicateTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final NameContainsKeywordsAsSubstringPredicate meier =
+            new NameContainsKeywordsAsSubstringPredicate(List.of("meier", "meyer"));
+
+    private static List<Person> filter(List<Person> persons, TopMatchesPredicate predicate) {
+        return persons.stream().filter(predicate).toList();
+    }
+
+    @Test
+    public void test_limitBelowMatchCount_earliestOfEqualRelevanceKept() {
+        TopMatchesPredicate predicate = new TopMatchesPredicate(meier, meier, 2, model);
+        assertEquals(3, predicate.getMatchCount());
+        assertEquals(List.of(BENSON, DANIEL), filter(model.getAddressBook().getPersonList(), predicate));
+        assertFalse(predicate.test(ELLE));
+    }
+
+    @Test
+    public void test_parallel_sameMatches() {
+        List<Person> persons = model.getAddressBook().getPersonList();
+        for (int limit = 1; limit <= 4; limit++) {
+            TopMatchesPredicate sequential = new TopMatchesPredicate(meier, meier, limit, model, false);
+            TopMatchesPredicate parallel = new TopMatchesPredicate(meier, meier, limit, model, true);
+            assertEquals(filter(persons, sequential), filter(persons, parallel));
+            assertEquals(sequential.getMatchCount(), parallel.getMatchCount());
+        }
+        assertTrue(new TopMatchesPredicate(meier, meier, 5, model, true).test(ELLE));
+    }
+}
@@ -177,6 +177,114 @@ public class UniqueRelationshipListTest {
         assertFalse(uniqueRelationshipList.contains("1", "2", "Friend"));
     }
 
+    @Test
+    public void getRelationshipsOf_nullUserId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueRelationshipList.getRelationshipsOf(null));
+    }
+
+    @Test
+    public void getRelationshipsOf_userWithoutRelationships_returnsEmptyList() {
+        uniqueRelationshipList.add(new RelationshipBuilder().withUser1Id("1").withUser2Id("2").build());
+        assertTrue(uniqueRelationshipList.getRelationshipsOf("3").isEmpty());
+    }
+
+    @Test
+    public void getRelationshipsOf_eitherSide_returnsRelationshipsInInsertionOrder() {
+        Relationship r1 = new RelationshipBuilder().withUser1Id("1").withUser2Id("2").build();
+        Relationship r2 = new RelationshipBuilder().withUser1Id("3").withUser2Id("1").build();
+        Relationship r3 = new RelationshipBuilder().withUser1Id("2").withUser2Id("3").build();
+        uniqueRelationshipList.add(r1);
+        uniqueRelationshipList.add(r2);
+        uniqueRelationshipList.add(r3);
+
+        assertEquals(List.of(r1, r2), uniqueRelationshipList.getRelationshipsOf("1"));
+        assertEquals(List.of(r1, r3), uniqueRelationshipList.getRelationshipsOf("2"));
+        assertEquals(List.of(r2, r3), uniqueRelationshipList.getRelationshipsOf("3"));
+    }
+
+    @Test
+    public void getRelationshipsOf_relationshipWithSelf_returnedOnce() {
+        Relationship r = new RelationshipBuilder().withUser1Id("1").withUser2Id("1").build();
+        uniqueRelationshipList.add(r);
+
+        assertEquals(List.of(r), uniqueRelationshipList.getRelationshipsOf("1"));
+    }
+
+    @Test
+    public void getRelationshipsOf_afterRemove_excludesRemovedRelationship() {
+        Relationship r1 = new RelationshipBuilder().withUser1Id("1").withUser2Id("2")
+                .withForwardName("Boss").withReverseName("Employee").build();
+        Relationship r2 = new RelationshipBuilder().withUser1Id("1").withUser2Id("3").build();
+        uniqueRelationshipList.add(r1);
+        uniqueRelationshipList.add(r2);
+
+        uniqueRelationshipList.remove("2", "1", "Employee");
+
+        assertEquals(List.of(r2), uniqueRelationshipList.getRelationshipsOf("1"));
+        assertTrue(uniqueRelationshipList.getRelationshipsOf("2").isEmpty());
+        assertFalse(uniqueRelationshipList.hasAnyRelationshipBetween("1", "2"));
+    }
+
+    @Test
+    public void getRelationshipsOf_afterSetRelationship_reflectsEditedRelationship() {
+        Relationship original = new RelationshipBuilder().withUser1Id("1").withUser2Id("2").build();
+        Relationship edited = new RelationshipBuilder().withUser1Id("1").withUser2Id("3").build();
+        uniqueRelationshipList.add(original);
+
+        uniqueRelationshipList.setRelationship(original, edited);
+
+        assertEquals(List.of(edited), uniqueRelationshipList.getRelationshipsOf("1"));
+        assertTrue(uniqueRelationshipList.getRelationshipsOf("2").isEmpty());
+        assertEquals(List.of(edited), uniqueRelationshipList.getRelationshipsOf("3"));
+        assertTrue(uniqueRelationshipList.hasAnyRelationshipBetween("3", "1"));
+    }
+
+    @Test
+    public void getRelationshipsOf_afterSetRelationships_reflectsReplacementList() {
+        uniqueRelationshipList.add(new RelationshipBuilder().withUser1Id("1").withUser2Id("2").build());
+        Relationship replacement = new RelationshipBuilder().withUser1Id("2").withUser2Id("3").build();
+
+        uniqueRelationshipList.setRelationships(List.of(replacement));
+
+        assertTrue(uniqueRelationshipList.getRelationshipsOf("1").isEmpty());
+        assertEquals(List.of(replacement), uniqueRelationshipList.getRelationshipsOf("2"));
+        assertFalse(uniqueRelationshipList.hasAnyRelationshipBetween("1", "2"));
+    }
+
+    @Test
+    public void getRelationshipsOf_afterRemoveRelationshipsInvolvingUser_clearsOtherSide() {
+        Relationship r1 = new RelationshipBuilder().withUser1Id("1").withUser2Id("2").build();
+        Relationship r2 = new RelationshipBuilder().withUser1Id("2").withUser2Id("3").build();
+        uniqueRelationshipList.add(r1);
+        uniqueRelationshipList.add(r2);
+
+        uniqueRelationshipList.removeRelationshipsInvolvingUser("1");
+
+        assertTrue(uniqueRelationshipList.getRelationshipsOf("1").isEmpty());
+        assertEquals(List.of(r2), uniqueRelationshipList.getRelationshipsOf("2"));
+        assertEquals(List.of(r2), uniqueRelationshipList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeRelationshipsInvolvingUser_selfAndPairRelationships_allIndexesCleared() {
+        Relationship self = new RelationshipBuilder().withUser1Id("1").withUser2Id("1").build();
+        Relationship toSecond = new RelationshipBuilder().withUser1Id("1").withUser2Id("2").build();
+        Relationship fromSecond = new RelationshipBuilder().withUser1Id("2").withUser2Id("1")
+                .withForwardName("mentor").withReverseName("mentee").build();
+        uniqueRelationshipList.add(self);
+        uniqueRelationshipList.add(toSecond);
+        uniqueRelationshipList.add(fromSecond);
+
+        assertTrue(uniqueRelationshipList.removeRelationshipsInvolvingUser("1"));
+        assertTrue(uniqueRelationshipList.getRelationshipsOf("2").isEmpty());
+        assertFalse(uniqueRelationshipList.hasAnyRelationshipBetween("1", "2"));
+        assertFalse(uniqueRelationshipList.removeRelationshipsInvolvingUser("1"));
+
+        uniqueRelationshipList.add(toSecond);
+        assertEquals(List.of(toSecond), uniqueRelationshipList.getRelationshipsOf("1"));
+        assertEquals(List.of(toSecond), uniqueRelationshipList.getRelationshipsOf("2"));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
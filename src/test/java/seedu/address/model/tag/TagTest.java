@@ -1,7 +1,12 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.lang.ref.WeakReference;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -17,6 +22,22 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertEquals(new Tag("friends"), Tag.of("friends"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void of_tagNoLongerUsed_released() {
+        WeakReference<Tag> unusedTag = new WeakReference<>(Tag.of("searchKeyword"));
+        for (int i = 0; i < 100 && unusedTag.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(unusedTag.get());
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
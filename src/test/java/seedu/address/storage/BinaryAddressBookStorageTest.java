@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalRelationships;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBookWithEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        TypicalRelationships.getTypicalRelationships().forEach(addressBook::addRelationship);
+        Event event = new Event("00000007", "Team Meeting", LocalDateTime.of(2024, 1, 2, 14, 0), "COM1-02-01",
+                "Weekly team sync-up", Set.of(new Tag("work")), new UniquePersonList());
+        event.addContact(ALICE);
+        event.addContact(BENSON);
+        addressBook.addEvent(event);
+        return addressBook;
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Path.of("data", "addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getAddressBookWithEvents();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        Person contact = readBack.getEventList().get(0).getContacts().get(0);
+        assertSame(readBack.getPersonList().get(readBack.getPersonList().indexOf(contact)), contact);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_contactsSharingId_bothResolved() throws Exception {
+        // ids are hashes of the name and phone, so two persons may share one
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        Person sharingId = new Person(HOON.getName(), HOON.getPhone(), HOON.getEmail(), HOON.getAddress(),
+                HOON.getSocials(), HOON.getTags(), ALICE.getId());
+        original.addPerson(sharingId);
+        Event event = new Event("00000007", "Team Meeting", LocalDateTime.of(2024, 1, 2, 14, 0), "COM1-02-01",
+                "Weekly team sync-up", Set.of(), new UniquePersonList());
+        event.addContact(sharingId);
+        event.addContact(ALICE);
+        original.addEvent(event);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        List<Person> contacts = readBack.getEventList().get(0).getContacts();
+        assertEquals(List.of(HOON.getName(), ALICE.getName()), contacts.stream().map(Person::getName).toList());
+        assertSame(readBack.getPersonList().get(readBack.getPersonList().size() - 1), contacts.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedTags_writtenOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 50; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + (char) ('a' + i % 26) + (i / 26))
+                    .withPhone(String.valueOf(91000000 + i)).withTags("colleagues").build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        String contents = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        assertEquals(contents.indexOf("colleagues"), contents.lastIndexOf("colleagues"));
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_anyByteChanged_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithEvents());
+        byte[] original = Files.readAllBytes(filePath);
+
+        for (int i = 0; i < original.length; i++) {
+            byte[] corrupted = Arrays.copyOf(original, original.length);
+            corrupted[i] ^= 0x20;
+            Files.write(filePath, corrupted);
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        }
+    }
+
+    @Test
+    public void readAddressBook_truncated_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithEvents());
+        byte[] original = Files.readAllBytes(filePath);
+
+        for (int length = 0; length < original.length; length++) {
+            Files.write(filePath, Arrays.copyOf(original, length));
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        AddressBook addressBook = getAddressBookWithEvents();
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath) / 2);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        AddressBook addressBook = getAddressBookWithEvents();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(jsonStorage.readAddressBook().get());
+        Path roundTripPath = testFolder.resolve("roundTrip.json");
+        jsonStorage.saveAddressBook(binaryStorage.readAddressBook().get(), roundTripPath);
+
+        assertEquals(addressBook, new AddressBook(jsonStorage.readAddressBook(roundTripPath).get()));
+    }
+}
@@ -0,0 +1,394 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.RelationshipBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalPath = JournaledAddressBookStorage.journalPathOf(filePath);
+    }
+
+    private JournaledAddressBookStorage createStorage() {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    private AddressBook read() throws Exception {
+        return new AddressBook(createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_nullSnapshotStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        createStorage().saveAddressBook(addressBook);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, read());
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_appendedToJournalAndReplayed() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.addRelationship(new RelationshipBuilder()
+                .withUser1Id(BENSON.getId()).withUser2Id(CARL.getId()).build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot is untouched; every change went to the journal
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, read());
+    }
+
+    @Test
+    public void saveAddressBook_eventContactEdited_replayedWithContactsSharedWithPersons() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        Event event = new Event("Meeting", LocalDateTime.of(2024, 1, 1, 9, 0), "", "", new HashSet<>(),
+                new UniquePersonList());
+        event.addContact(ALICE);
+        addressBook.addEvent(event);
+        storage.saveAddressBook(addressBook);
+
+        // the event refers to the person by name, so it must be journaled with the new name
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        storage.saveAddressBook(addressBook);
+
+        AddressBook readBack = read();
+        assertEquals(addressBook, readBack);
+        assertSame(readBack.getPersonList().get(0), readBack.getEventList().get(0).getContacts().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_eventContactsSharingId_replayedWithBothContacts() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // ids are hashes of the name and phone, so two persons may share one
+        Person sharingId = new Person(BENSON.getName(), BENSON.getPhone(), BENSON.getEmail(), BENSON.getAddress(),
+                BENSON.getSocials(), BENSON.getTags(), ALICE.getId());
+        addressBook.addPerson(sharingId);
+        Event event = new Event("Meeting", LocalDateTime.of(2024, 1, 1, 9, 0), "", "", new HashSet<>(),
+                new UniquePersonList());
+        event.addContact(sharingId);
+        event.addContact(ALICE);
+        addressBook.addEvent(event);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalPath));
+
+        AddressBook readBack = read();
+        List<Person> contacts = readBack.getEventList().get(0).getContacts();
+        assertEquals(List.of(BENSON.getName(), ALICE.getName()), contacts.stream().map(Person::getName).toList());
+        assertSame(readBack.getPersonList().get(1), contacts.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUnchanged() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToExistingJournal() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage reopened = createStorage();
+        AddressBook reloaded = new AddressBook(reopened.readAddressBook().get());
+        reloaded.addPerson(BENSON);
+        reopened.saveAddressBook(reloaded);
+
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(reloaded, read());
+    }
+
+    @Test
+    public void saveAddressBook_maxEntriesReached_compactsIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 2, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalPath));
+
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(addressBook, read());
+    }
+
+    @Test
+    public void saveAddressBook_maxBytesReached_compactsIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), Integer.MAX_VALUE, 1);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, read());
+    }
+
+    @Test
+    public void readAddressBook_journalLeftByInterruptedCompaction_ignored() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 2, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        byte[] journalBeforeCompaction = Files.readAllBytes(journalPath);
+
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        // simulate a crash after the new snapshot was written but before the old journal was deleted
+        Files.write(journalPath, journalBeforeCompaction);
+
+        assertEquals(addressBook, read());
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_journalTruncatedAtAnyOffset_recoversCompleteEntries() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // after the header line, each line of the journal holds one of these states
+        List<AddressBook> states = new ArrayList<>();
+        states.add(new AddressBook(addressBook));
+        List<Runnable> changes = List.of(() -> addressBook.addPerson(ALICE),
+                () -> addressBook.addPerson(BENSON),
+                () -> addressBook.addRelationship(new RelationshipBuilder()
+                        .withUser1Id(ALICE.getId()).withUser2Id(BENSON.getId()).build()),
+                () -> addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withEmail("benson@example.com").build()),
+                () -> addressBook.addPerson(CARL),
+                () -> addressBook.removePerson(ALICE));
+        for (Runnable change : changes) {
+            change.run();
+            storage.saveAddressBook(addressBook);
+            states.add(new AddressBook(addressBook));
+        }
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        assertEquals(changes.size() + 1, new String(journal, StandardCharsets.UTF_8).split("\n").length);
+        List<Integer> lineEnds = new ArrayList<>();
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] == '\n') {
+                lineEnds.add(i + 1);
+            }
+        }
+
+        for (int length = 0; length <= journal.length; length++) {
+            Files.write(journalPath, Arrays.copyOf(journal, length));
+            int completeLines = 0;
+            while (completeLines < lineEnds.size() && lineEnds.get(completeLines) <= length) {
+                completeLines++;
+            }
+            AddressBook expected = states.get(Math.max(0, completeLines - 1));
+
+            JournaledAddressBookStorage recovered = createStorage();
+            AddressBook actual = new AddressBook(recovered.readAddressBook().get());
+            assertEquals(expected, actual, "journal truncated to " + length + " bytes");
+
+            // the recovered journal can be appended to and replayed again
+            actual.addPerson(DANIEL);
+            recovered.saveAddressBook(actual);
+            assertEquals(actual, read(), "journal truncated to " + length + " bytes, then appended to");
+        }
+    }
+
+    @Test
+    public void readAddressBook_corruptEntry_replaysEntriesBeforeIt() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+
+        String entryNotFittingPersons = "{\"persons\":{\"index\":5,\"removed\":1,\"added\":[]}}\n";
+        Files.write(journalPath, entryNotFittingPersons.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(expected, read());
+        assertEquals(2, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveAddressBook_differentPath_writesSnapshotThere() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        Path otherPath = testFolder.resolve("other.json");
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook, otherPath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.journalPathOf(otherPath)));
+        ReadOnlyAddressBook other = new JsonAddressBookStorage(otherPath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(other));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingBackup_journalSetAside() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        Path backupPath = testFolder.resolve("backup.json");
+        storage.saveAddressBook(addressBook, backupPath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        List<String> journal = Files.readAllLines(journalPath);
+
+        // the data file cannot be read, so the app starts with the backup and saves it over the data file
+        Files.writeString(filePath, "not json");
+        JournaledAddressBookStorage recovering = createStorage();
+        assertThrows(DataLoadingException.class, () -> recovering.readAddressBook());
+        ReadOnlyAddressBook backup = recovering.readAddressBook(backupPath).get();
+        recovering.saveAddressBook(backup);
+
+        Path asidePath = testFolder.resolve(journalPath.getFileName() + ".unapplied");
+        assertEquals(journal, Files.readAllLines(asidePath));
+        assertFalse(Files.exists(journalPath));
+
+        // a journal set aside before is kept
+        recovering.saveAddressBook(backup, backupPath);
+        Files.writeString(journalPath, "{}\n");
+        recovering.saveAddressBook(backup);
+        assertEquals(journal, Files.readAllLines(asidePath));
+        assertEquals(List.of("{}"), Files.readAllLines(FileUtil.backupPathOf(asidePath, 1)));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyChangeWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        for (Person person : List.of(ALICE, BENSON, CARL, DANIEL)) {
+            addressBook.addPerson(person);
+        }
+        storage.saveAddressBook(addressBook);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress("1 New Street").build();
+        addressBook.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(addressBook);
+
+        String entry = Files.readAllLines(journalPath).get(1);
+        assertTrue(entry.contains("1 New Street"));
+        assertFalse(entry.contains(ALICE.getName().fullName));
+        assertFalse(entry.contains(DANIEL.getName().fullName));
+    }
+
+    @Test
+    public void saveAddressBook_onlySocialsEdited_editReplayed() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // the edited person is equal to the old one, as equality ignores socials
+        Person editedAlice = new PersonBuilder(ALICE).withSocials("linkedin.com/in/alice").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(editedAlice.getSocials().toString(), read().getPersonList().get(0).getSocials().toString());
+    }
+
+    @Test
+    public void saveAddressBook_journalNotWritable_nextSaveWritesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Files.createDirectory(journalPath); // a directory cannot be opened as the journal
+        addressBook.addPerson(ALICE);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+
+        Files.delete(journalPath);
+        addressBook.addRelationship(new RelationshipBuilder().build());
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, read());
+    }
+}
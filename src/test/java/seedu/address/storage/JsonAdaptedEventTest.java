@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedEventTest {
+    private static final String VALID_ID = "00000042";
+    private static final String VALID_NAME = "Team Meeting";
+    private static final String VALID_DATE = "2024-01-02T14:00:00";
+    private static final String VALID_LOCATION = "COM1-02-01";
+    private static final String VALID_DESCRIPTION = "Weekly team sync-up";
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+    }
+
+    private Event toModelType(JsonAdaptedEvent event) throws Exception {
+        return event.toModelType(addressBook::getPersonByName);
+    }
+
+    @Test
+    public void toModelType_validEventDetails_returnsEvent() throws Exception {
+        UniquePersonList contacts = new UniquePersonList();
+        contacts.add(ALICE);
+        contacts.add(BENSON);
+        Event event = new Event(VALID_ID, VALID_NAME, LocalDateTime.of(2024, 1, 2, 14, 0), VALID_LOCATION,
+                VALID_DESCRIPTION, new HashSet<>(), contacts);
+        assertEquals(event, toModelType(new JsonAdaptedEvent(event)));
+    }
+
+    @Test
+    public void toModelType_contactNames_resolvedToAddressBookPersons() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_NAME, VALID_DATE, VALID_LOCATION,
+                VALID_DESCRIPTION, null, List.of(BENSON.getName().fullName, ALICE.getName().fullName), null);
+        List<Person> contacts = toModelType(event).getContacts();
+        assertEquals(2, contacts.size());
+        assertSame(addressBook.getPersonByName(BENSON.getName()), contacts.get(0));
+        assertSame(addressBook.getPersonByName(ALICE.getName()), contacts.get(1));
+    }
+
+    @Test
+    public void toModelType_contactsSharingId_bothResolved() throws Exception {
+        // ids are hashes of the name and phone, so two persons may share one
+        Person first = new Person(CARL.getName(), CARL.getPhone(), CARL.getEmail(), CARL.getAddress(),
+                CARL.getSocials(), CARL.getTags(), ALICE.getId());
+        addressBook.addPerson(first);
+        UniquePersonList contacts = new UniquePersonList();
+        contacts.add(first);
+        contacts.add(addressBook.getPersonByName(ALICE.getName()));
+        Event event = new Event(VALID_ID, VALID_NAME, LocalDateTime.of(2024, 1, 2, 14, 0), VALID_LOCATION,
+                VALID_DESCRIPTION, new HashSet<>(), contacts);
+
+        List<Person> readBack = toModelType(new JsonAdaptedEvent(event)).getContacts();
+        assertEquals(2, readBack.size());
+        assertSame(first, readBack.get(0));
+        assertSame(addressBook.getPersonByName(ALICE.getName()), readBack.get(1));
+    }
+
+    @Test
+    public void toModelType_unknownContactName_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_NAME, VALID_DATE, VALID_LOCATION,
+                VALID_DESCRIPTION, null, List.of(CARL.getName().fullName), null);
+        String expectedMessage = String.format(JsonAdaptedEvent.MESSAGE_UNKNOWN_CONTACT, CARL.getName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> toModelType(event));
+    }
+
+    @Test
+    public void toModelType_invalidContactName_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_NAME, VALID_DATE, VALID_LOCATION,
+                VALID_DESCRIPTION, null, List.of("R@chel"), null);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> toModelType(event));
+    }
+
+    @Test
+    public void toModelType_duplicateContactName_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_NAME, VALID_DATE, VALID_LOCATION,
+                VALID_DESCRIPTION, null, List.of(ALICE.getName().fullName, ALICE.getName().fullName), null);
+        String expectedMessage = String.format(JsonAdaptedEvent.MESSAGE_DUPLICATE_CONTACT, ALICE.getName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> toModelType(event));
+    }
+
+    @Test
+    public void toModelType_legacyContacts_resolvedByName() throws Exception {
+        // older versions stored a full, possibly outdated, copy of each contact
+        Person staleBenson = new PersonBuilder(BENSON).withPhone("00000000").withEmail("unknown@example.com").build();
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_NAME, VALID_DATE, VALID_LOCATION,
+                VALID_DESCRIPTION, null, null,
+                List.of(new JsonAdaptedPerson(staleBenson), new JsonAdaptedPerson(CARL)));
+        List<Person> contacts = toModelType(event).getContacts();
+        assertEquals(1, contacts.size());
+        assertSame(addressBook.getPersonByName(BENSON.getName()), contacts.get(0));
+    }
+
+    @Test
+    public void toJson_storesContactNamesOnly() throws Exception {
+        UniquePersonList contacts = new UniquePersonList();
+        contacts.add(ALICE);
+        Event event = new Event(VALID_ID, VALID_NAME, LocalDateTime.of(2024, 1, 2, 14, 0), VALID_LOCATION,
+                VALID_DESCRIPTION, new HashSet<>(), contacts);
+        String json = JsonUtil.toJsonString(new JsonAdaptedEvent(event));
+        assertTrue(json.contains(ALICE.getName().fullName));
+        assertFalse(json.contains(ALICE.getEmail().value));
+        assertFalse(json.contains("\"contacts\""));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,22 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +94,68 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_personsNotAList_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("personsNotAList.json");
+        Files.writeString(filePath, "{ \"persons\": { \"name\": \"Alice\" } }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_nullPerson_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("nullPerson.json");
+        Files.writeString(filePath, "{ \"persons\": [ null ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unknownFieldsAndMissingLists_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        Files.writeString(filePath, "{ \"version\": { \"major\": [ 1 ] }, \"relationships\": null }");
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_eventsBeforePersons_contactsResolvedToPersons() throws Exception {
+        Path filePath = testFolder.resolve("eventsFirst.json");
+        Files.writeString(filePath, "{ \"events\": [ { \"id\": \"00000001\", \"name\": \"Meeting\","
+                + " \"date\": \"2024-01-01T09:00:00\", \"contactNames\": [ \"" + ALICE.getName() + "\" ] } ],"
+                + " \"persons\": [ " + JsonUtil.toJsonString(new JsonAdaptedPerson(ALICE)) + " ] }");
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertSame(readBack.getPersonList().get(0), readBack.getEventList().get(0).getContacts().get(0));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_eventWithContacts_contactsSharedWithPersons() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        Event event = new Event("Meeting", LocalDateTime.of(2024, 1, 1, 9, 0), "", "", new HashSet<>(),
+                new UniquePersonList());
+        event.addContact(ALICE);
+        event.addContact(HOON);
+        original.addPerson(HOON);
+        original.addEvent(event);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        for (Person contact : readBack.getEventList().get(0).getContacts()) {
+            assertSame(readBack.getPersonList().get(readBack.getPersonList().indexOf(contact)), contact);
+        }
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_sameFormatAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                Files.readString(filePath));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
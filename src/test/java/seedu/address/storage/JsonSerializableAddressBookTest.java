@@ -79,7 +79,8 @@ public class JsonSerializableAddressBookTest {
 
         JsonSerializableAddressBook dataFromFile = optionalData.get();
         assertThrows(IllegalValueException.class,
-                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, dataFromFile::toModelType);
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, "Alice Pauline"),
+                dataFromFile::toModelType);
     }
 
     @Test
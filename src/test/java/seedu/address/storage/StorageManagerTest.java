@@ -2,8 +2,12 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +21,8 @@ import seedu.address.model.UserPrefs;
 
 public class StorageManagerTest {
 
+    private static final long LONG_SAVE_DELAY_MILLIS = 60_000;
+
     @TempDir
     public Path testFolder;
 
@@ -65,4 +71,70 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_writeBehindBurstOfSaves_writtenOnceOnClose() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), LONG_SAVE_DELAY_MILLIS);
+
+        AddressBook addressBook = new AddressBook();
+        writeBehindStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        writeBehindStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        writeBehindStorage.saveAddressBook(addressBook);
+        assertEquals(0, addressBookStorage.saveCount);
+
+        writeBehindStorage.close();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindLaterChanges_notInSnapshot() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), LONG_SAVE_DELAY_MILLIS);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBook expected = new AddressBook(addressBook);
+        writeBehindStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+
+        writeBehindStorage.close();
+        assertEquals(expected, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void close_writeBehindWriteFails_throwsIoException() throws Exception {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), LONG_SAVE_DELAY_MILLIS);
+
+        writeBehindStorage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, "dummy IO exception", writeBehindStorage::close);
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts how many times it has been asked to save.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
 }
@@ -2,6 +2,8 @@ package seedu.address.testutil;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
@@ -11,7 +13,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.predicate.RankedPredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
 
@@ -64,12 +70,22 @@ public class ModelStub implements Model {
         return FXCollections.observableArrayList();
     }
 
+    @Override
+    public List<Relationship> getRelationshipsOf(String userId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -100,6 +116,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int updateFilteredPersonList(RankedPredicate predicate, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) {
 
@@ -110,6 +131,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Person getPersonByName(Name name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Person> getSearchCandidates(PersonSearchIndex.FieldPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public TagIndex getTagIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasRelationship(Relationship relationship) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,120 @@
+package seedu.address.ui;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the frame times of the person list while it scrolls through a synthetic address book.
+ *
+ * This is not a test, as it needs a display. Run its {@code main} method, optionally with the number of persons,
+ * and it prints the frame times once it has scrolled for {@code FRAME_COUNT} frames.
+ * Like {@code Main}, the class with the {@code main} method does not extend {@code Application}, so that JavaFX
+ * can be loaded from the class path.
+ */
+public class PersonListScrollHarness {
+
+    private static final int DEFAULT_PERSON_COUNT = 200_000;
+    private static final int FRAME_COUNT = 600;
+    private static final int ROWS_PER_FRAME = 3;
+    private static final int TAG_COUNT = 300;
+    private static final String[] RELATIONSHIP_NAMES = {"Mentor", "Colleague", "Neighbour"};
+
+    public static void main(String[] args) {
+        Application.launch(ScrollApp.class, args);
+    }
+
+    /**
+     * Shows the person list of a synthetic address book, and scrolls it by a few rows every frame.
+     */
+    public static class ScrollApp extends Application {
+        @Override
+        public void start(Stage stage) {
+            List<String> args = getParameters().getRaw();
+            int personCount = args.isEmpty() ? DEFAULT_PERSON_COUNT : Integer.parseInt(args.get(0));
+            AddressBook addressBook = createAddressBook(personCount);
+
+            PersonListPanel panel = new PersonListPanel(addressBook.getPersonList(), addressBook.getRelationshipList(),
+                    addressBook::getRelationshipsOf, addressBook);
+            Scene scene = new Scene(panel.getRoot(), 800, 600);
+            scene.getStylesheets().add(getClass().getResource("/view/DarkTheme.css").toExternalForm());
+            stage.setScene(scene);
+            stage.show();
+
+            ListView<?> personListView = (ListView<?>) panel.getRoot().lookup("#personListView");
+            long[] frameNanos = new long[FRAME_COUNT];
+            new AnimationTimer() {
+                private long lastFrame = -1;
+                private int frame;
+
+                @Override
+                public void handle(long now) {
+                    if (lastFrame >= 0) {
+                        frameNanos[frame++] = now - lastFrame;
+                    }
+                    lastFrame = now;
+                    if (frame == FRAME_COUNT) {
+                        stop();
+                        printFrameTimes(personCount, frameNanos);
+                        Platform.exit();
+                        return;
+                    }
+                    personListView.scrollTo((frame * ROWS_PER_FRAME) % personCount);
+                }
+            }.start();
+        }
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons, each with a few of {@code TAG_COUNT} tags and a
+     * relationship with the next person.
+     */
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        Person previous = null;
+        for (int i = 0; i < personCount; i++) {
+            Person person = new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.format("%08d", i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress("Block " + i + ", Example Street")
+                    .withTags("tag" + (i % TAG_COUNT), "tag" + (i * 7 % TAG_COUNT))
+                    .build();
+            addressBook.addPerson(person);
+            if (previous != null) {
+                String relationshipName = RELATIONSHIP_NAMES[i % RELATIONSHIP_NAMES.length];
+                addressBook.addRelationship(new Relationship(previous.getId(), person.getId(),
+                        relationshipName, relationshipName, Set.of()));
+            }
+            previous = person;
+        }
+        return addressBook;
+    }
+
+    private static void printFrameTimes(int personCount, long[] frameNanos) {
+        long[] sorted = frameNanos.clone();
+        Arrays.sort(sorted);
+        double meanMillis = Arrays.stream(sorted).average().orElse(0) / 1e6;
+        System.out.printf("%d persons, %d frames scrolling %d rows each%n", personCount, sorted.length,
+                ROWS_PER_FRAME);
+        System.out.printf("mean %.2f ms, p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms%n", meanMillis,
+                percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 99),
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentileMillis(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, sorted.length * percentile / 100);
+        return sorted[index] / 1e6;
+    }
+}